@@ -6,6 +6,8 @@ import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.vaadin.flow.component.grid.FilterCondition;
+import com.vaadin.flow.component.grid.FilterExpression;
 import com.vaadin.flow.component.grid.FilterFieldDto;
 
 public class TextFieldFilterDto implements FilterFieldDto<String> {
@@ -93,12 +95,70 @@ public class TextFieldFilterDto implements FilterFieldDto<String> {
 		} else if(caseSensitive) {
 			simplePredicate = s -> s.contains(filterValue);
 		} else {
-			simplePredicate = s -> s.toUpperCase().contains(filterValue.toUpperCase());
+			simplePredicate = s -> StringUtils.containsIgnoreCase(s, filterValue);
 		}
 			
 		return invertResult ? simplePredicate.negate() : simplePredicate;		
 	}
 
+	@Override
+	public FilterCondition getFilterCondition() {
+		return invertResult ? null : getMatchCondition();
+	}
+
+	@Override
+	public FilterExpression getFilterExpression(String columnKey) {
+		if(StringUtils.isBlank(filterValue)) {
+			// matches every row, inverted or not, like the predicate
+			return FilterExpression.and();
+		}
+		FilterCondition condition = getMatchCondition();
+		if(condition == null) {
+			return null;
+		}
+		FilterExpression expression = FilterExpression.column(columnKey, condition);
+		return invertResult ? FilterExpression.not(expression) : expression;
+	}
+
+	/**
+	 * Returns the condition matched by this filter before inverting it.
+	 */
+	private FilterCondition getMatchCondition() {
+		if(regularExpression || StringUtils.isBlank(filterValue)) {
+			return null;
+		}
+		if(wholeField) {
+			// only an exact, case sensitive match can be looked up in an index
+			return caseSensitive ? FilterCondition.equalTo(filterValue) : null;
+		}
+		return FilterCondition.contains(filterValue, caseSensitive);
+	}
+
+	@Override
+	public boolean isRefinementOf(FilterFieldDto<String> previous) {
+		if(!(previous instanceof TextFieldFilterDto) || regularExpression || wholeField || invertResult) {
+			return false;
+		}
+		TextFieldFilterDto other = (TextFieldFilterDto) previous;
+		if(other.regularExpression || other.wholeField || other.invertResult || other.caseSensitive != caseSensitive) {
+			return false;
+		}
+		if(StringUtils.isBlank(other.filterValue)) {
+			return true;
+		}
+		if(StringUtils.isBlank(filterValue)) {
+			return false;
+		}
+		// a value containing the new text also contains any part of it
+		return caseSensitive ? filterValue.contains(other.filterValue)
+				: filterValue.toUpperCase().contains(other.filterValue.toUpperCase());
+	}
+
+	@Override
+	public TextFieldFilterDto snapshot() {
+		return new TextFieldFilterDto(wholeField, caseSensitive, regularExpression, invertResult, filterValue);
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return StringUtils.isBlank(filterValue) && !invertResult && !regularExpression && !caseSensitive && !wholeField;
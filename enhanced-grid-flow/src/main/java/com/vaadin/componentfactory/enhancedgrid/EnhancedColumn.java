@@ -33,6 +33,7 @@ import com.vaadin.flow.component.grid.Grid.Column;
 import com.vaadin.flow.component.grid.SortOrderProvider;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.data.provider.ListDataProvider;
 import com.vaadin.flow.data.renderer.Renderer;
 import com.vaadin.flow.function.ValueProvider;
 import com.vaadin.flow.router.BeforeEnterEvent;
@@ -61,6 +62,8 @@ public class EnhancedColumn<T> extends Grid.Column<T> implements BeforeEnterObse
 	private Component headerComponent;
 	
 	private String filterIcon;
+
+	private boolean indexed;
 			
 	/**
 	 * @see Column#Column(Grid, String, Renderer)
@@ -148,6 +151,8 @@ public class EnhancedColumn<T> extends Grid.Column<T> implements BeforeEnterObse
 		// add filter field (popup component) and set filter as it's filter component
 		filterField = new FilterField();
 		filterField.addApplyFilterListener(grid);
+		filterField.setLiveFilterDelay(grid.getLiveFilterDelay());
+		filterField.setLiveFilter(grid.isLiveFilter());
 		filter.getElement().getComponent()
 				.ifPresent(filterComponent -> filterField.addFilterComponent(filterComponent));
 
@@ -186,6 +191,16 @@ public class EnhancedColumn<T> extends Grid.Column<T> implements BeforeEnterObse
 		return filter;
 	}
 
+	/**
+	 * Returns the popover holding the filter component.
+	 * 
+	 * @return the filter field, or {@code null} if the column is not
+	 *         filterable
+	 */
+	public FilterField getFilterField() {
+		return filterField;
+	}
+
 	protected void updateFilterButtonStyle() {
 		if (headerComponent != null) {
 			headerComponent.getElement().executeJs("return").then(ignore -> {
@@ -230,6 +245,34 @@ public class EnhancedColumn<T> extends Grid.Column<T> implements BeforeEnterObse
 		this.valueProvider = valueProvider;
 	}
 	
+	/**
+	 * Enable or disable indexing the values of this column for in-memory
+	 * filtering. When the filter of the column exposes a
+	 * {@link FilterFieldDto#getFilterCondition() structured condition}, the
+	 * matching rows are then looked up in a hash index for equality conditions
+	 * and in a sorted index for range conditions, instead of testing every row.
+	 * <p>
+	 * The indexes are built on first use from the items of the
+	 * {@link ListDataProvider} and rebuilt after any data change event. Default
+	 * is false.
+	 * 
+	 * @param indexed true to index the column values
+	 */
+	public void setIndexed(boolean indexed) {
+		this.indexed = indexed;
+		grid.discardColumnIndex(this);
+	}
+
+	/**
+	 * Returns whether the values of this column are indexed for in-memory
+	 * filtering.
+	 * 
+	 * @return true if the column is indexed
+	 */
+	public boolean isIndexed() {
+		return indexed;
+	}
+
 	/**
 	 * Clear selected filter.
 	 * 
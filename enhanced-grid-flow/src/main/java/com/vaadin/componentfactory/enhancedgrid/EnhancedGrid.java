@@ -22,32 +22,64 @@ package com.vaadin.componentfactory.enhancedgrid;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.dependency.CssImport;
 import com.vaadin.flow.component.grid.ApplyFilterListener;
+import com.vaadin.flow.component.grid.ApproximateFacetSampler;
+import com.vaadin.flow.component.grid.ApproximateFacets;
+import com.vaadin.flow.component.grid.ApproximateFacetsEvent;
+import com.vaadin.flow.component.grid.BackgroundTask;
 import com.vaadin.flow.component.grid.CancelEditConfirmDialog;
-import com.vaadin.flow.component.grid.ClientItemToggleEvent;
+import com.vaadin.flow.component.grid.ColumnIndex;
+import com.vaadin.flow.component.grid.ColumnMatchSets;
+import com.vaadin.flow.component.grid.CompositeFilterPredicate;
 import com.vaadin.flow.component.grid.CustomAbstractGridMultiSelectionModel;
 import com.vaadin.flow.component.grid.CustomAbstractGridSingleSelectionModel;
+import com.vaadin.flow.component.grid.FacetCount;
+import com.vaadin.flow.component.grid.FacetEngine;
+import com.vaadin.flow.component.grid.FacetFilterComponent;
+import com.vaadin.flow.component.grid.FacetProvider;
 import com.vaadin.flow.component.grid.Filter;
 import com.vaadin.flow.component.grid.FilterClickedEvent;
+import com.vaadin.flow.component.grid.FilterCondition;
+import com.vaadin.flow.component.grid.FilterEvaluationEvent;
+import com.vaadin.flow.component.grid.FilterExpression;
 import com.vaadin.flow.component.grid.FilterField;
+import com.vaadin.flow.component.grid.FilterFieldDto;
+import com.vaadin.flow.component.grid.FilterResultCache;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridArrayUpdater;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.grid.GridSelectionModel;
+import com.vaadin.flow.component.grid.ItemPositionSet;
+import com.vaadin.flow.component.grid.ParallelListDataProvider;
+import com.vaadin.flow.component.grid.SelectAllProgressEvent;
+import com.vaadin.flow.component.grid.SelectionDeltaEvent;
 import com.vaadin.flow.data.provider.BackEndDataProvider;
 import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
 import com.vaadin.flow.data.provider.DataCommunicator;
 import com.vaadin.flow.data.provider.DataGenerator;
 import com.vaadin.flow.data.provider.DataProvider;
@@ -74,6 +106,7 @@ import tools.jackson.databind.node.ObjectNode;
  * @param <T> the grid bean type
  */
 @CssImport(value = "./styles/enhanced-grid-selection-disabled.css", themeFor = "vaadin-grid")
+@CssImport(value = "./styles/enhanced-grid-filtering.css", themeFor = "vaadin-grid")
 public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, ApplyFilterListener {
 
 	private static final String CANCEL_EDIT_MSG_KEY = "cancel-edit-dialog.text";
@@ -83,6 +116,14 @@ public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, App
     private static final String CANCEL_EDIT_CANCEL_BTN_KEY = "cancel-edit-dialog.cancel-btn";
     
     private SerializablePredicate<T> selectionPredicate = item -> true;
+
+    private boolean selectionPredicateCacheEnabled;
+
+    private final Map<Object, Boolean> selectionPredicateCache = new HashMap<>();
+
+    private DataProvider<T, ?> selectionPredicateCacheDataProvider;
+
+    private Registration selectionPredicateCacheRegistration;
     
     private DataGenerator<T> generateSelectionGenerator;
     
@@ -91,9 +132,61 @@ public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, App
     private boolean showCancelEditDialog = true;	    
     
     private Icon filterIcon;
+
+    private SerializablePredicate<T> filterPredicate;
+
+    private Filter<T> appliedFilter;
+
+    private Map<Column<T>, FilterFieldDto> filterResultValues;
+
+    private Set<T> filterResult;
+
+    private ItemPositionSet<T> filterItems;
+
+    private DataProvider<T, ?> filterResultDataProvider;
+
+    private Registration filterResultRegistration;
+
+    private boolean applyingFilterResult;
+
+    private final Map<Column<T>, ColumnIndex<T>> columnIndexes = new HashMap<>();
+
+    private boolean liveFilter;
+
+    private int liveFilterDelay = FilterField.DEFAULT_LIVE_FILTER_DELAY;
+
+    private boolean asyncFilter;
+
+    private transient Executor filterExecutor;
+
+    private transient BackgroundTask<Set<T>> filterTask;
+
+    private FilterResultCache<T> filterResultCache;
+
+    private boolean incrementalFilter;
+
+    private ColumnMatchSets<T> columnMatchSets;
+
+    private Map<Column<T>, FilterFieldDto> appliedFilterValues = Collections.emptyMap();
+
+    private FacetEngine<T> facetEngine;
+
+    private FacetProvider<T> facetProvider;
+
+    private boolean approximateFacets;
+
+    private final ApproximateFacetSampler<T> facetSampler = new ApproximateFacetSampler<>();
+
+    private Map<Object, ApproximateFacets> facetSample;
+
+    private boolean facetSampleStale;
+
+    private DataProvider<T, ?> facetSampleDataProvider;
+
+    private Registration facetSampleRegistration;
     	
     SerializableFunction<T, String> selectionDisabled = item -> {
-        if (!selectionPredicate.test(item)) {
+        if (!isSelectable(item)) {
             return "selection-disabled";
         }
         return "";
@@ -279,6 +372,7 @@ public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, App
      */
     public void setSelectionPredicate(SerializablePredicate<T> selectionPredicate) {
         this.selectionPredicate = selectionPredicate;
+        selectionPredicateCache.clear();
         if (generateSelectionGenerator != null) {
             generateSelectionGenerator.destroyAllData();
         }
@@ -304,11 +398,75 @@ public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, App
      * @param jsonObject jsonObject
      */
     private void generateSelectionAccess(T item, ObjectNode jsonObject) {
-        if (!selectionPredicate.test(item)) {
+        if (!isSelectable(item)) {
             jsonObject.put("selectionDisabled", true);
         }
     }
 
+    /**
+     * Return whether an item can be selected according to the
+     * selectionPredicate.
+     * <p>
+     * If the selection predicate cache is enabled, the result is computed
+     * once per item id until the predicate or the data changes.
+     *
+     * @param item the item to test
+     * @return true if the item can be selected, false otherwise
+     * @see #setSelectionPredicateCacheEnabled(boolean)
+     */
+    public boolean isSelectable(T item) {
+        if (!selectionPredicateCacheEnabled) {
+            return selectionPredicate.test(item);
+        }
+        DataProvider<T, ?> dataProvider = getDataCommunicator().getDataProvider();
+        if (dataProvider != selectionPredicateCacheDataProvider) {
+            listenToSelectionPredicateCacheInvalidation(dataProvider);
+        }
+        return selectionPredicateCache.computeIfAbsent(dataProvider.getId(item),
+                id -> selectionPredicate.test(item));
+    }
+
+    /**
+     * Enable or disable caching the result of the selectionPredicate per item
+     * id. Use it when the predicate is expensive, as it is evaluated several
+     * times per row and round trip.
+     * <p>
+     * The cache is cleared when a new predicate is set and when
+     * {@link DataProvider#refreshAll()} is called, while
+     * {@link DataProvider#refreshItem(Object)} only discards the refreshed
+     * item. Default is false.
+     *
+     * @param selectionPredicateCacheEnabled true to cache the predicate results
+     */
+    public void setSelectionPredicateCacheEnabled(boolean selectionPredicateCacheEnabled) {
+        this.selectionPredicateCacheEnabled = selectionPredicateCacheEnabled;
+        selectionPredicateCache.clear();
+    }
+
+    /**
+     * Return whether the selectionPredicate results are cached.
+     *
+     * @return true if the predicate results are cached
+     */
+    public boolean isSelectionPredicateCacheEnabled() {
+        return selectionPredicateCacheEnabled;
+    }
+
+    private void listenToSelectionPredicateCacheInvalidation(DataProvider<T, ?> dataProvider) {
+        if (selectionPredicateCacheRegistration != null) {
+            selectionPredicateCacheRegistration.remove();
+        }
+        selectionPredicateCache.clear();
+        selectionPredicateCacheDataProvider = dataProvider;
+        selectionPredicateCacheRegistration = dataProvider.addDataProviderListener(event -> {
+            if (event instanceof DataRefreshEvent) {
+                selectionPredicateCache.remove(dataProvider.getId(((DataRefreshEvent<T>) event).getItem()));
+            } else {
+                selectionPredicateCache.clear();
+            }
+        });
+    }
+
     @Override
     public GridSelectionModel<T> setSelectionMode(SelectionMode selectionMode) {
         if (selectionMode == SelectionMode.MULTI) {
@@ -316,27 +474,10 @@ public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, App
             Objects.requireNonNull(selectionMode, "Selection mode cannot be null.");
             GridSelectionModel<T> model = new CustomAbstractGridMultiSelectionModel<T>(this) {
 
-                @Override
-                public void setDragSelect(boolean b) {
-					// Do nothing
-                }
-
-                @Override
-                public boolean isDragSelect() {
-                    return false;
-                }
-
                 @Override
                 protected void fireSelectionEvent(SelectionEvent<Grid<T>, T> event) {
                     ComponentUtil.fireEvent(getGrid(), (ComponentEvent<Grid<?>>) event);
                 }
-
-                @Override
-                public Registration addClientItemToggleListener(
-                        ComponentEventListener<ClientItemToggleEvent<T>> listener) {
-                    // TODO Auto-generated method stub
-                    return null;
-                }
             };
             setSelectionModel(model, selectionMode);
             return model;
@@ -577,32 +718,856 @@ public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, App
 		applyFilter();
 	}
 
+	@Override
+	public void onApplyFilter(FilterField source, Object filter) {
+		EnhancedColumn<T> changedColumn = null;
+		for(Column<T> column : getColumns()) {
+			if(((EnhancedColumn<T>) column).getFilterField() == source) {
+				changedColumn = (EnhancedColumn<T>) column;
+			}
+		}
+		applyFilter(changedColumn);
+	}
+
 	/**
 	 * Apply the filters selected for each column in {@link FilterField}
 	 *
 	 */
 	public void applyFilter() {
-		List<Predicate<T>> predicates = new ArrayList<>();
+		applyFilter(null);
+	}
+
+	/**
+	 * Apply the filters selected for each column in {@link FilterField},
+	 * knowing that only the filter of the given column changed since the
+	 * filters were last applied. With
+	 * {@link #setIncrementalFilter(boolean) incremental filtering}, only that
+	 * column is evaluated again.
+	 *
+	 * @param changedColumn the column whose filter changed, or {@code null} if
+	 *                      any filter may have changed
+	 */
+	public void applyFilter(EnhancedColumn<T> changedColumn) {
+		// the column filters are fused into one predicate checking the most
+		// selective ones first
+		CompositeFilterPredicate<T> finalPredicate = new CompositeFilterPredicate<>();
+		Map<Column<T>, FilterFieldDto> filterValues = new LinkedHashMap<>();
 		for(Column<T> column : getColumns()) {
 			EnhancedColumn<T> enhancedColumn = (EnhancedColumn<T>)column;
 			if(enhancedColumn.getFilter() != null) {
-				ValueProvider<T, ?> columnValueProvider = enhancedColumn.getValueProvider();
-				Predicate<Object> filterPredicate = enhancedColumn.getFilter().getValue().getFilterPredicate();
-				predicates.add(p -> filterPredicate.test(columnValueProvider.apply(p)));
+				FilterFieldDto filterValue = enhancedColumn.getFilter().getValue();
+				Predicate<Object> filterPredicate = filterValue.getFilterPredicate();
+				finalPredicate.addTerm(enhancedColumn.getValueProvider(), filterPredicate);
+				filterValues.put(column, filterValue.snapshot());
 				enhancedColumn.updateFilterButtonStyle();
 			}
 		}
 
-		SerializablePredicate<T> finalPredicate = t -> {
-			for(Predicate<T> predicate : predicates) {
-				if(!predicate.test(t)) {
+		filterPredicate = finalPredicate;
+		appliedFilterValues = filterValues;
+		// a running background evaluation is superseded by this one
+		cancelFilterTask();
+		DataProvider<T, ?> dataProvider = getDataProvider();
+		if(dataProvider instanceof ListDataProvider<?>) {
+			// the match sets are shared with the facets, forget the matches
+			// of the changed column so that it is evaluated again even if its
+			// filter does not implement equals
+			if(changedColumn != null) {
+				if(columnMatchSets != null) {
+					columnMatchSets.remove(changedColumn);
+				}
+			} else if(!incrementalFilter) {
+				// any filter may have changed, only incremental filtering
+				// evaluates them all again
+				columnMatchSets = null;
+			}
+			if(asyncFilter && getUI().isPresent()) {
+				startAsyncFilter(getUI().get(), (ListDataProvider<T>) dataProvider, finalPredicate, filterValues,
+						changedColumn);
+			} else {
+				applyFilterResult((ListDataProvider<T>) dataProvider, finalPredicate, filterValues, changedColumn);
+			}
+		} else {
+			applyFilterPredicate(finalPredicate, buildFilterExpression(filterValues));
+		}
+	}
+
+	/**
+	 * Combines the expressions of the non empty column filters with a logical
+	 * and. Returns null if a column has no key or its filter cannot be
+	 * expressed as an expression, as the backend would then miss a part of the
+	 * filter.
+	 */
+	private FilterExpression buildFilterExpression(Map<Column<T>, FilterFieldDto> filterValues) {
+		List<FilterExpression> expressions = new ArrayList<>();
+		for(Map.Entry<Column<T>, FilterFieldDto> entry : filterValues.entrySet()) {
+			if(entry.getValue().isEmpty()) {
+				continue;
+			}
+			String columnKey = entry.getKey().getKey();
+			FilterExpression expression = columnKey == null ? null : entry.getValue().getFilterExpression(columnKey);
+			if(expression == null) {
+				return null;
+			}
+			expressions.add(expression);
+		}
+		return FilterExpression.and(expressions);
+	}
+
+	/**
+	 * Creates the filter object passed to a configurable filter data provider.
+	 * When the column filters are applied, the filter also carries their
+	 * {@link FilterExpression structured expression}, so that the backend can
+	 * translate it.
+	 *
+	 * @param finalPredicate   the filter predicate
+	 * @param filterExpression the expression equivalent to the predicate, or
+	 *                         null if there is none
+	 * @return the filter to pass to the data provider
+	 */
+	protected Filter<T> createFilter(SerializablePredicate<T> finalPredicate, FilterExpression filterExpression) {
+		return new Filter<T>(finalPredicate, filterExpression);
+	}
+
+	/**
+	 * Filters the items of an in-memory data provider once and applies the
+	 * result as the filter. If every column filter is a refinement of the
+	 * filter applied previously, see
+	 * {@link FilterFieldDto#isRefinementOf(FilterFieldDto)}, only the items
+	 * of the previous result are evaluated. Any data change event of the data
+	 * provider discards the previous result. Conditions on indexed columns are
+	 * looked up in their {@link ColumnIndex}. The items of a
+	 * {@link ParallelListDataProvider} are evaluated in parallel.
+	 */
+	private void applyFilterResult(ListDataProvider<T> dataProvider, SerializablePredicate<T> finalPredicate,
+			Map<Column<T>, FilterFieldDto> filterValues, Column<T> changedColumn) {
+		if(dataProvider != filterResultDataProvider) {
+			listenToFilterResultInvalidation(dataProvider);
+		}
+		Object cacheKey = getFilterResultCacheKey(filterValues);
+		Set<T> result = getCachedFilterResult(dataProvider, cacheKey);
+		if(result == null) {
+			if(incrementalFilter) {
+				result = computeIncrementalFilterResult(filterValues,
+						getColumnMatchSets(dataProvider), changedColumn, null);
+			} else {
+				Set<T> previousResult = isFilterRefinement(filterValues) ? filterResult : null;
+				result = computeFilterResult(dataProvider, getFilterItems(dataProvider), finalPredicate,
+						filterValues, previousResult, columnIndexes, null);
+			}
+			cacheFilterResult(dataProvider, cacheKey, result);
+		}
+		installFilterResult(finalPredicate, filterValues, result);
+	}
+
+	/**
+	 * Returns the match sets of the in-memory items, used by incremental
+	 * filtering and by the facets.
+	 */
+	private ColumnMatchSets<T> getColumnMatchSets(ListDataProvider<T> dataProvider) {
+		if(columnMatchSets == null) {
+			columnMatchSets = new ColumnMatchSets<>(dataProvider.getItems());
+		}
+		return columnMatchSets;
+	}
+
+	/**
+	 * Computes the items matching the column filters, or null if no column is
+	 * filtered, from one bit set of matches per column. Only the columns
+	 * whose filter changed are evaluated; filters that do not implement equals
+	 * are assumed unchanged unless their column is the changed one.
+	 */
+	private Set<T> computeIncrementalFilterResult(Map<Column<T>, FilterFieldDto> filterValues,
+			ColumnMatchSets<T> matchSets, Column<T> changedColumn, BackgroundTask<Set<T>> task) {
+		matchSets.retainColumns(filterValues.keySet());
+		for(Map.Entry<Column<T>, FilterFieldDto> entry : filterValues.entrySet()) {
+			Column<T> column = entry.getKey();
+			ValueProvider<T, ?> valueProvider = ((EnhancedColumn<T>) column).getValueProvider();
+			if(task != null) {
+				ValueProvider<T, ?> evaluatedProvider = valueProvider;
+				valueProvider = item -> {
+					if(task.isEnded()) {
+						throw new CancellationException();
+					}
+					return evaluatedProvider.apply(item);
+				};
+			}
+			matchSets.update(column, valueProvider, entry.getValue(),
+					changedColumn == null || column == changedColumn);
+		}
+		if(filterValues.values().stream().allMatch(FilterFieldDto::isEmpty)) {
+			return null;
+		}
+		return matchSets.getMatchingItems();
+	}
+
+	/**
+	 * Sets whether the column filters of an in-memory data provider are
+	 * tracked per column. The items matching each column filter are kept as a
+	 * bit set, so that applying the filter of one {@link FilterField} only
+	 * evaluates that column on all the items, and intersects its bit set with
+	 * the ones of the other columns.
+	 * <p>
+	 * This costs one bit per item and filtered column. The first evaluation
+	 * of each column tests all the items, so previous results and
+	 * {@link EnhancedColumn#setIndexed(boolean) column indexes} are not used
+	 * in this mode. The {@link #getFacets(EnhancedColumn) facets} count over
+	 * the same bit sets, so they evaluate no filter of their own. Default is
+	 * {@code false}.
+	 *
+	 * @param incrementalFilter {@code true} to evaluate only the changed
+	 *                          column
+	 */
+	public void setIncrementalFilter(boolean incrementalFilter) {
+		this.incrementalFilter = incrementalFilter;
+		columnMatchSets = null;
+	}
+
+	/**
+	 * Returns whether the column filters of an in-memory data provider are
+	 * tracked per column.
+	 *
+	 * @return {@code true} if only the changed column is evaluated
+	 * @see #setIncrementalFilter(boolean)
+	 */
+	public boolean isIncrementalFilter() {
+		return incrementalFilter;
+	}
+
+	private Object getFilterResultCacheKey(Map<Column<T>, FilterFieldDto> filterValues) {
+		return filterResultCache == null ? null : FilterResultCache.createKey(filterValues);
+	}
+
+	private Set<T> getCachedFilterResult(ListDataProvider<T> dataProvider, Object cacheKey) {
+		return cacheKey == null ? null : filterResultCache.get(dataProvider.getItems(), cacheKey);
+	}
+
+	private void cacheFilterResult(ListDataProvider<T> dataProvider, Object cacheKey, Set<T> result) {
+		// unfiltered states have no result to keep
+		if(cacheKey != null && result != null) {
+			filterResultCache.put(dataProvider.getItems(), cacheKey, result);
+		}
+	}
+
+	/**
+	 * Sets the cache of the filter results of an in-memory data provider.
+	 * Applying a combination of column filters whose result is cached
+	 * installs the cached result without evaluating the filters. The cache is
+	 * cleared on any data change event of the data provider.
+	 * <p>
+	 * Create a cache per grid, or share one between the grids of several UIs
+	 * displaying the same item instances, see {@link FilterResultCache}.
+	 *
+	 * @param filterResultCache the cache, or {@code null} to disable caching
+	 */
+	public void setFilterResultCache(FilterResultCache<T> filterResultCache) {
+		this.filterResultCache = filterResultCache;
+	}
+
+	/**
+	 * Returns the cache of the filter results of an in-memory data provider.
+	 *
+	 * @return the cache, or {@code null} if results are not cached
+	 * @see #setFilterResultCache(FilterResultCache)
+	 */
+	public FilterResultCache<T> getFilterResultCache() {
+		return filterResultCache;
+	}
+
+	/**
+	 * Computes the items matching the column filters, or null if no column is
+	 * filtered. Only reads the given arguments, so that it can run outside of
+	 * the session lock. Throws a {@link CancellationException} once the given
+	 * task, if any, is cancelled.
+	 */
+	private Set<T> computeFilterResult(ListDataProvider<T> dataProvider, ItemPositionSet<T> allItems,
+			SerializablePredicate<T> finalPredicate, Map<Column<T>, FilterFieldDto> filterValues, Set<T> previousResult,
+			Map<Column<T>, ColumnIndex<T>> indexes, BackgroundTask<Set<T>> task) {
+		if(filterValues.values().stream().allMatch(FilterFieldDto::isEmpty)) {
+			// nothing filtered, keeping all the items would be wasted memory
+			return null;
+		}
+		boolean refinement = previousResult != null;
+		Collection<T> candidates = refinement ? previousResult : dataProvider.getItems();
+
+		// conditions on indexed columns are answered by the index, the other
+		// filters are only evaluated on the rows matching all of them
+		Set<T> indexMatches = null;
+		CompositeFilterPredicate<T> residualPredicate = new CompositeFilterPredicate<>();
+		for(Map.Entry<Column<T>, FilterFieldDto> entry : filterValues.entrySet()) {
+			EnhancedColumn<T> column = (EnhancedColumn<T>) entry.getKey();
+			FilterFieldDto filterValue = entry.getValue();
+			Set<T> matches = filterValue.isEmpty() ? null : lookupColumnIndex(column, filterValue, dataProvider, indexes);
+			if(matches != null) {
+				indexMatches = indexMatches == null ? matches : intersect(indexMatches, matches);
+			} else if(!filterValue.isEmpty()) {
+				Predicate<Object> columnPredicate = filterValue.getFilterPredicate();
+				residualPredicate.addTerm(column.getValueProvider(), columnPredicate);
+			}
+		}
+		SerializablePredicate<T> predicate = finalPredicate;
+		if(indexMatches != null) {
+			candidates = refinement ? intersect(indexMatches, previousResult) : indexMatches;
+			predicate = residualPredicate;
+		}
+
+		boolean parallel = dataProvider instanceof ParallelListDataProvider;
+		if(task != null) {
+			SerializablePredicate<T> evaluatedPredicate = predicate;
+			predicate = item -> {
+				if(task.isEnded()) {
+					throw new CancellationException();
+				}
+				return evaluatedPredicate.test(item);
+			};
+		}
+		if(indexMatches == null && (!refinement || previousResult instanceof ItemPositionSet)) {
+			// the positions of the matching items are kept for the data provider
+			ItemPositionSet<T> domain = refinement ? (ItemPositionSet<T>) previousResult : allItems;
+			return domain.filter(predicate, parallel);
+		}
+		Stream<T> candidateStream = parallel ? candidates.parallelStream() : candidates.stream();
+		return candidateStream.filter(predicate)
+				.collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+	}
+
+	/**
+	 * Returns a snapshot of the items of the data provider, shared by the
+	 * results computed until the data changes.
+	 */
+	private ItemPositionSet<T> getFilterItems(ListDataProvider<T> dataProvider) {
+		ItemPositionSet<T> items = filterItems;
+		if(items == null) {
+			items = ItemPositionSet.of(dataProvider.getItems());
+			filterItems = items;
+		}
+		return items;
+	}
+
+	private void installFilterResult(SerializablePredicate<T> finalPredicate,
+			Map<Column<T>, FilterFieldDto> filterValues, Set<T> result) {
+		filterResultValues = filterValues;
+		filterResult = result;
+		applyFilterPredicateFromResult(result == null ? finalPredicate : result::contains,
+				buildFilterExpression(filterValues),
+				result instanceof ItemPositionSet ? (ItemPositionSet<T>) result : null);
+	}
+
+	/**
+	 * Sets whether the column filters of an in-memory data provider are
+	 * evaluated in the background instead of inside the request that applied
+	 * them.
+	 * <p>
+	 * The grid keeps showing the previous result, marked with the
+	 * {@code filtering} attribute, until the new one is computed on the
+	 * executor set with {@link #setFilterExecutor(Executor)}, a new virtual
+	 * thread by default. The result is then applied through
+	 * {@link UI#access(com.vaadin.flow.server.Command)}, so server push or
+	 * polling must be enabled to see it. Applying the filters again, or any
+	 * data change event of the data provider, discards the running
+	 * evaluation. The state is reported with {@link FilterEvaluationEvent}, a
+	 * failed evaluation is logged and its exception passed in the event.
+	 * <p>
+	 * The items of the data provider and the value providers of the filtered
+	 * columns are read outside of the session lock, so the items must not be
+	 * modified while an evaluation runs. Other data providers apply the
+	 * filter lazily when fetching and are not affected. Default is
+	 * {@code false}.
+	 *
+	 * @param asyncFilter {@code true} to evaluate the filters in the
+	 *                    background
+	 */
+	public void setAsyncFilter(boolean asyncFilter) {
+		this.asyncFilter = asyncFilter;
+	}
+
+	/**
+	 * Returns whether the column filters are evaluated in the background.
+	 *
+	 * @return {@code true} if the filters are evaluated in the background
+	 * @see #setAsyncFilter(boolean)
+	 */
+	public boolean isAsyncFilter() {
+		return asyncFilter;
+	}
+
+	/**
+	 * Sets the executor evaluating the column filters in the background.
+	 *
+	 * @param filterExecutor the executor, or {@code null} to start a new
+	 *                       virtual thread for each evaluation
+	 * @see #setAsyncFilter(boolean)
+	 */
+	public void setFilterExecutor(Executor filterExecutor) {
+		this.filterExecutor = filterExecutor;
+	}
+
+	/**
+	 * Returns whether a background filter evaluation is currently running.
+	 *
+	 * @return {@code true} if the filters are being evaluated
+	 */
+	public boolean isFilterRunning() {
+		return filterTask != null;
+	}
+
+	private void startAsyncFilter(UI ui, ListDataProvider<T> dataProvider, SerializablePredicate<T> finalPredicate,
+			Map<Column<T>, FilterFieldDto> filterValues, Column<T> changedColumn) {
+		if(dataProvider != filterResultDataProvider) {
+			listenToFilterResultInvalidation(dataProvider);
+		}
+		Object cacheKey = getFilterResultCacheKey(filterValues);
+		Set<T> cachedResult = getCachedFilterResult(dataProvider, cacheKey);
+		if(cachedResult != null) {
+			installFilterResult(finalPredicate, filterValues, cachedResult);
+			return;
+		}
+		// the previous result and the indexes are only replaced on the UI
+		// thread, the evaluation works on what they are now
+		Set<T> previousResult = isFilterRefinement(filterValues) ? filterResult : null;
+		Map<Column<T>, ColumnIndex<T>> indexes = new HashMap<>(columnIndexes);
+		ColumnMatchSets<T> matchSets = incrementalFilter ? getColumnMatchSets(dataProvider).copy()
+				: null;
+		ItemPositionSet<T> allItems = getFilterItems(dataProvider);
+		BackgroundTask<Set<T>> task = new BackgroundTask<>(ui, EnhancedGrid.class);
+		filterTask = task;
+		getElement().setAttribute("filtering", true);
+		fireFilterEvaluation(FilterEvaluationEvent.State.RUNNING);
+
+		task.start(filterExecutor,
+				() -> matchSets != null ? computeIncrementalFilterResult(filterValues, matchSets, changedColumn, task)
+						: computeFilterResult(dataProvider, allItems, finalPredicate, filterValues, previousResult,
+								indexes, task),
+				result -> {
+					endFilterTask(FilterEvaluationEvent.State.COMPLETED);
+					if(matchSets != null) {
+						columnMatchSets = matchSets;
+					}
+					indexes.forEach((column, index) -> {
+						if(((EnhancedColumn<T>) column).isIndexed()) {
+							columnIndexes.putIfAbsent(column, index);
+						}
+					});
+					installFilterResult(finalPredicate, filterValues, result);
+					cacheFilterResult(dataProvider, cacheKey, result);
+				}, failure -> endFilterTask(FilterEvaluationEvent.State.FAILED, failure));
+	}
+
+	private void cancelFilterTask() {
+		if(filterTask != null) {
+			filterTask.cancel();
+			endFilterTask(FilterEvaluationEvent.State.CANCELLED);
+		}
+	}
+
+	private void endFilterTask(FilterEvaluationEvent.State state) {
+		endFilterTask(state, null);
+	}
+
+	private void endFilterTask(FilterEvaluationEvent.State state, Throwable failure) {
+		filterTask = null;
+		getElement().setAttribute("filtering", false);
+		ComponentUtil.fireEvent(this, new FilterEvaluationEvent<>(this, state, failure));
+	}
+
+	private void fireFilterEvaluation(FilterEvaluationEvent.State state) {
+		ComponentUtil.fireEvent(this, new FilterEvaluationEvent<>(this, state));
+	}
+
+	/**
+	 * Adds a listener notified when a background evaluation of the column
+	 * filters starts and ends.
+	 *
+	 * @param listener the listener to add
+	 * @return registration which can remove the listener.
+	 * @see #setAsyncFilter(boolean)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public Registration addFilterEvaluationListener(ComponentEventListener<FilterEvaluationEvent<T>> listener) {
+		return addListener(FilterEvaluationEvent.class, (ComponentEventListener) listener);
+	}
+
+	/**
+	 * Returns the distinct values of a column with the number of items having
+	 * each of them, among the items matching the applied filters of the other
+	 * columns, by decreasing count. See {@link FacetFilterComponent} to
+	 * display them in the filter field of the column.
+	 * <p>
+	 * The values of an in-memory data provider are computed by a
+	 * {@link FacetEngine} over the per column matches of the filters, shared
+	 * with {@link #setIncrementalFilter(boolean) incremental filtering}. Only
+	 * the filters that changed since they were last evaluated are evaluated. Other data providers need a
+	 * {@link #setFacetProvider(FacetProvider) facet provider} and the column
+	 * needs a key, unless {@link #setApproximateFacets(boolean) approximate
+	 * facets} are enabled.
+	 *
+	 * @param column the column whose values to count
+	 * @return the values with their counts
+	 * @throws IllegalStateException if the values cannot be computed for the
+	 *                               data provider of the grid
+	 */
+	public List<FacetCount> getFacets(EnhancedColumn<T> column) {
+		DataProvider<T, ?> dataProvider = getDataProvider();
+		if(dataProvider instanceof ListDataProvider<?>) {
+			if(dataProvider != filterResultDataProvider) {
+				listenToFilterResultInvalidation(dataProvider);
+			}
+			if(facetEngine == null) {
+				facetEngine = new FacetEngine<>();
+			}
+			// up to date after incremental filtering, otherwise only the
+			// filters changed since the previous call are evaluated
+			ColumnMatchSets<T> matchSets = getColumnMatchSets((ListDataProvider<T>) dataProvider);
+			matchSets.retainColumns(appliedFilterValues.keySet());
+			for(Map.Entry<Column<T>, FilterFieldDto> entry : appliedFilterValues.entrySet()) {
+				EnhancedColumn<T> filteredColumn = (EnhancedColumn<T>) entry.getKey();
+				matchSets.update(filteredColumn, filteredColumn.getValueProvider(), entry.getValue(), false);
+			}
+			return facetEngine.getFacets(matchSets, column, column.getValueProvider());
+		}
+		if(approximateFacets) {
+			return getApproximateFacets(column).map(ApproximateFacets::getTopValues)
+					.orElse(Collections.emptyList());
+		}
+		if(facetProvider == null) {
+			throw new IllegalStateException("A facet provider is needed to count the values of this data provider");
+		}
+		if(column.getKey() == null) {
+			throw new IllegalStateException("The column needs a key to count its values");
+		}
+		// the values of a column are counted regardless of its own filter
+		Map<Column<T>, FilterFieldDto> otherFilterValues = new LinkedHashMap<>(appliedFilterValues);
+		otherFilterValues.remove(column);
+		CompositeFilterPredicate<T> otherPredicate = new CompositeFilterPredicate<>();
+		for(Map.Entry<Column<T>, FilterFieldDto> entry : otherFilterValues.entrySet()) {
+			if(!entry.getValue().isEmpty()) {
+				Predicate<Object> columnPredicate = entry.getValue().getFilterPredicate();
+				otherPredicate.addTerm(((EnhancedColumn<T>) entry.getKey()).getValueProvider(), columnPredicate);
+			}
+		}
+		return facetProvider.fetchFacets(column.getKey(),
+				createFilter(otherPredicate, buildFilterExpression(otherFilterValues)));
+	}
+
+	/**
+	 * Sets the provider counting the values of a column in the backend of a
+	 * data provider that is not in memory, see {@link #getFacets(EnhancedColumn)}.
+	 *
+	 * @param facetProvider the facet provider, or {@code null} to remove it
+	 */
+	public void setFacetProvider(FacetProvider<T> facetProvider) {
+		this.facetProvider = facetProvider;
+	}
+
+	/**
+	 * Returns the provider counting the values of a column in the backend.
+	 *
+	 * @return the facet provider, or {@code null} if none is set
+	 */
+	public FacetProvider<T> getFacetProvider() {
+		return facetProvider;
+	}
+
+	/**
+	 * Sets whether the values of the columns of a data provider that is not in
+	 * memory are counted approximately from a sample of the items, instead of
+	 * by the {@link #setFacetProvider(FacetProvider) facet provider}.
+	 * <p>
+	 * The sample is taken in the background by the
+	 * {@link #getApproximateFacetSampler() sampler} the first time facets are
+	 * requested, and taken again once the filters or the data change. Until
+	 * a new sample is available, the previous one is returned, and an
+	 * {@link ApproximateFacetsEvent} is fired when it is. The counts are
+	 * {@link FacetCount#isApproximate() flagged as approximate}.
+	 * <p>
+	 * The sample is fetched through the data provider of the grid, so unlike
+	 * exact facets it also reflects the filter of the column itself. Default
+	 * is {@code false}.
+	 *
+	 * @param approximateFacets {@code true} to sample the values
+	 */
+	public void setApproximateFacets(boolean approximateFacets) {
+		this.approximateFacets = approximateFacets;
+		if(!approximateFacets) {
+			facetSampler.cancel();
+			facetSample = null;
+		}
+	}
+
+	/**
+	 * Returns whether the values of the columns of a data provider that is not
+	 * in memory are counted approximately.
+	 *
+	 * @return {@code true} if the values are sampled
+	 * @see #setApproximateFacets(boolean)
+	 */
+	public boolean isApproximateFacets() {
+		return approximateFacets;
+	}
+
+	/**
+	 * Returns the sampler estimating the approximate facets, to configure the
+	 * sample size or its executor.
+	 *
+	 * @return the sampler
+	 */
+	public ApproximateFacetSampler<T> getApproximateFacetSampler() {
+		return facetSampler;
+	}
+
+	/**
+	 * Returns the approximate distribution of the values of a column from the
+	 * latest sample of the items, starting a new sample if there is none yet
+	 * or if the filters or the data changed since.
+	 *
+	 * @param column the column whose values to estimate
+	 * @return the distribution, or an empty optional until the column has
+	 *         been sampled
+	 * @see #setApproximateFacets(boolean)
+	 */
+	public Optional<ApproximateFacets> getApproximateFacets(EnhancedColumn<T> column) {
+		DataProvider<T, ?> dataProvider = getDataProvider();
+		if(dataProvider != facetSampleDataProvider) {
+			if(facetSampleRegistration != null) {
+				facetSampleRegistration.remove();
+			}
+			facetSampler.cancel();
+			facetSample = null;
+			facetSampleDataProvider = dataProvider;
+			// applying filters to the data provider also refreshes it
+			facetSampleRegistration = dataProvider.addDataProviderListener(event -> {
+				facetSampleStale = true;
+				facetSampler.cancel();
+			});
+		}
+		if(facetSample != null && !facetSample.containsKey(column)) {
+			facetSampleStale = true;
+		}
+		if((facetSample == null || facetSampleStale) && !facetSampler.isRunning()) {
+			startFacetSampling(dataProvider, column);
+		}
+		return facetSample == null ? Optional.empty() : Optional.ofNullable(facetSample.get(column));
+	}
+
+	private void startFacetSampling(DataProvider<T, ?> dataProvider, EnhancedColumn<T> requestedColumn) {
+		// all filterable columns are sampled at once from the same pages
+		Map<Object, ValueProvider<T, ?>> sampledColumns = new LinkedHashMap<>();
+		for(Column<T> column : getColumns()) {
+			EnhancedColumn<T> enhancedColumn = (EnhancedColumn<T>) column;
+			if(enhancedColumn.getFilter() != null) {
+				sampledColumns.put(enhancedColumn, enhancedColumn.getValueProvider());
+			}
+		}
+		sampledColumns.put(requestedColumn, requestedColumn.getValueProvider());
+		facetSampler.start(getUI().orElse(null), dataProvider, sampledColumns, sample -> {
+			facetSample = sample;
+			facetSampleStale = false;
+			ComponentUtil.fireEvent(this, new ApproximateFacetsEvent<>(this));
+		});
+	}
+
+	/**
+	 * Adds a listener notified when a new sample of the approximate facets is
+	 * available, for example to call {@link FacetFilterComponent#refreshFacets()}.
+	 *
+	 * @param listener the listener to add
+	 * @return registration which can remove the listener.
+	 * @see #setApproximateFacets(boolean)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public Registration addApproximateFacetsListener(ComponentEventListener<ApproximateFacetsEvent<T>> listener) {
+		return addListener(ApproximateFacetsEvent.class, (ComponentEventListener) listener);
+	}
+
+	private Set<T> lookupColumnIndex(EnhancedColumn<T> column, FilterFieldDto filterValue,
+			ListDataProvider<T> dataProvider, Map<Column<T>, ColumnIndex<T>> indexes) {
+		if(!column.isIndexed()) {
+			return null;
+		}
+		FilterCondition condition = filterValue.getFilterCondition();
+		if(condition == null) {
+			return null;
+		}
+		return indexes
+				.computeIfAbsent(column, c -> new ColumnIndex<>(dataProvider.getItems(), column.getValueProvider()))
+				.lookup(condition);
+	}
+
+	private Set<T> intersect(Set<T> first, Set<T> second) {
+		Set<T> smaller = first.size() <= second.size() ? first : second;
+		Set<T> larger = smaller == first ? second : first;
+		Set<T> intersection = Collections.newSetFromMap(new IdentityHashMap<>());
+		for(T item : smaller) {
+			if(larger.contains(item)) {
+				intersection.add(item);
+			}
+		}
+		return intersection;
+	}
+
+	/**
+	 * Discards the index of the given column, so that it is rebuilt on the
+	 * next filter change.
+	 *
+	 * @param column the column whose index to discard
+	 */
+	void discardColumnIndex(EnhancedColumn<T> column) {
+		columnIndexes.remove(column);
+	}
+
+	private boolean isFilterRefinement(Map<Column<T>, FilterFieldDto> filterValues) {
+		if(filterResult == null || !filterValues.keySet().equals(filterResultValues.keySet())) {
+			return false;
+		}
+		for(Map.Entry<Column<T>, FilterFieldDto> entry : filterValues.entrySet()) {
+			FilterFieldDto previous = filterResultValues.get(entry.getKey());
+			FilterFieldDto current = entry.getValue();
+			if(!FilterFieldDto.isDetachedSnapshot(previous, current)) {
+				// edited in place, the previous value is lost
+				return false;
+			}
+			if(current.isEmpty()) {
+				if(!previous.isEmpty()) {
 					return false;
 				}
+			} else if(!previous.isEmpty() && !current.equals(previous) && !current.isRefinementOf(previous)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void applyFilterPredicateFromResult(SerializablePredicate<T> predicate, FilterExpression expression,
+			ItemPositionSet<T> matchingItems) {
+		// the refresh fired by the data provider must not discard the result
+		// that has just been computed
+		applyingFilterResult = true;
+		try {
+			DataProvider<T, ?> dataProvider = getDataProvider();
+			if(matchingItems != null && dataProvider instanceof ParallelListDataProvider) {
+				// the data provider reuses the positions of the matching items
+				// instead of testing every item against the result
+				invalidateSelectionRowCount();
+				appliedFilter = createFilter(predicate, expression);
+				((ParallelListDataProvider<T>) dataProvider).setFilter(predicate, matchingItems);
+			} else {
+				applyFilterPredicate(predicate, expression);
+			}
+		} finally {
+			applyingFilterResult = false;
+		}
+	}
+
+	private void listenToFilterResultInvalidation(DataProvider<T, ?> dataProvider) {
+		if(filterResultRegistration != null) {
+			filterResultRegistration.remove();
+		}
+		filterResult = null;
+		columnIndexes.clear();
+		columnMatchSets = null;
+		filterItems = null;
+		facetEngine = null;
+		filterResultDataProvider = dataProvider;
+		filterResultRegistration = dataProvider.addDataProviderListener(event -> {
+			if(!applyingFilterResult) {
+				cancelFilterTask();
+				columnIndexes.clear();
+				columnMatchSets = null;
+				filterItems = null;
+				facetEngine = null;
+				if(filterResultCache != null) {
+					filterResultCache.clear();
+				}
+				if(filterResult != null) {
+					// the result no longer matches the items, fall back to
+					// evaluating the filters when fetching
+					installFilterResult(filterPredicate, filterResultValues, null);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets whether the column filters are applied while they are edited,
+	 * without waiting for the apply button of their {@link FilterField}. The
+	 * setting applies to the current filterable columns and to the ones added
+	 * later.
+	 *
+	 * @param liveFilter {@code true} to filter as the user types
+	 * @see FilterField#setLiveFilter(boolean)
+	 */
+	public void setLiveFilter(boolean liveFilter) {
+		this.liveFilter = liveFilter;
+		forEachFilterField(filterField -> filterField.setLiveFilter(liveFilter));
+	}
+
+	/**
+	 * Returns whether the column filters are applied while they are edited.
+	 *
+	 * @return {@code true} in live mode
+	 * @see #setLiveFilter(boolean)
+	 */
+	public boolean isLiveFilter() {
+		return liveFilter;
+	}
+
+	/**
+	 * Sets the delay between the last change of a column filter and its
+	 * evaluation in live mode, for the current filterable columns and the ones
+	 * added later.
+	 *
+	 * @param liveFilterDelay the delay in milliseconds, not negative
+	 * @see FilterField#setLiveFilterDelay(int)
+	 */
+	public void setLiveFilterDelay(int liveFilterDelay) {
+		if(liveFilterDelay < 0) {
+			throw new IllegalArgumentException("The live filter delay cannot be negative");
+		}
+		this.liveFilterDelay = liveFilterDelay;
+		forEachFilterField(filterField -> filterField.setLiveFilterDelay(liveFilterDelay));
+	}
+
+	/**
+	 * Returns the delay between the last change of a column filter and its
+	 * evaluation in live mode.
+	 *
+	 * @return the delay in milliseconds
+	 */
+	public int getLiveFilterDelay() {
+		return liveFilterDelay;
+	}
+
+	private void forEachFilterField(Consumer<FilterField> action) {
+		for(Column<T> column : getColumns()) {
+			FilterField filterField = ((EnhancedColumn<T>) column).getFilterField();
+			if(filterField != null) {
+				action.accept(filterField);
 			}
-			return true;
-		};
+		}
+	}
 
-		applyFilterPredicate(finalPredicate);
+	/**
+	 * Returns the predicate combining the column filters applied by the last
+	 * call to {@link #applyFilter()}.
+	 *
+	 * @return the active filter predicate, or {@code null} if no filter has
+	 *         been applied yet
+	 */
+	public SerializablePredicate<T> getFilterPredicate() {
+		return filterPredicate;
+	}
+
+	/**
+	 * Returns the filter object wrapping the predicate applied by the last call
+	 * to {@link #applyFilterPredicate(SerializablePredicate)}. With a
+	 * {@link ConfigurableFilterDataProvider}, this is the instance passed to
+	 * the data provider.
+	 *
+	 * @return the applied filter, or {@code null} if no filter has been
+	 *         applied yet
+	 */
+	public Filter<T> getAppliedFilter() {
+		return appliedFilter;
 	}
 
 	/**
@@ -611,11 +1576,32 @@ public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, App
 	 * @param finalPredicate
 	 */
 	protected void applyFilterPredicate(SerializablePredicate<T> finalPredicate) {
+		applyFilterPredicate(finalPredicate, null);
+	}
+
+	/**
+	 * Apply filter predicate depending on the data provider, with the
+	 * structured expression equivalent to the predicate passed to a
+	 * configurable filter data provider
+	 *
+	 * @param finalPredicate   the filter predicate
+	 * @param filterExpression the expression equivalent to the predicate, or
+	 *                         null if there is none
+	 */
+	protected void applyFilterPredicate(SerializablePredicate<T> finalPredicate, FilterExpression filterExpression) {
+		invalidateSelectionRowCount();
+		appliedFilter = createFilter(finalPredicate, filterExpression);
 		DataProvider<T, ?> dataProvider = getDataProvider();
 		if(dataProvider instanceof ListDataProvider<?>) {
 			((ListDataProvider<T>)dataProvider).setFilter(finalPredicate);
 		} else if(dataProvider instanceof ConfigurableFilterDataProvider){
-			((ConfigurableFilterDataProvider<T, Void, Filter>)dataProvider).setFilter(new Filter<T>(finalPredicate));
+			((ConfigurableFilterDataProvider<T, Void, Filter>)dataProvider).setFilter(appliedFilter);
+		}
+	}
+
+	private void invalidateSelectionRowCount() {
+		if (getSelectionModel() instanceof CustomAbstractGridMultiSelectionModel) {
+			((CustomAbstractGridMultiSelectionModel<T>) getSelectionModel()).invalidateRowCountCache();
 		}
 	}
 
@@ -644,6 +1630,39 @@ public class EnhancedGrid<T> extends Grid<T> implements BeforeLeaveObserver, App
        return addListener(FilterClickedEvent.class, (ComponentEventListener) listener);
    }
 
+    /**
+     * Adds a listener notified with only the added and removed items whenever
+     * the selection changes in multi selection mode. Contrary to selection
+     * listeners, the full old and new selections are only computed if the
+     * listener asks for them.
+     *
+     * @param listener
+     *                 the listener to add
+     * @return registration which can remove the listener.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Registration addSelectionDeltaListener(
+            ComponentEventListener<SelectionDeltaEvent<T>> listener) {
+        return addListener(SelectionDeltaEvent.class,
+                (ComponentEventListener) listener);
+    }
+
+    /**
+     * Adds a listener notified of the progress of a background select all in
+     * multi selection mode.
+     *
+     * @param listener
+     *                 the listener to add
+     * @return registration which can remove the listener.
+     * @see CustomAbstractGridMultiSelectionModel#setAsyncSelectAll(boolean)
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Registration addSelectAllProgressListener(
+            ComponentEventListener<SelectAllProgressEvent<T>> listener) {
+        return addListener(SelectAllProgressEvent.class,
+                (ComponentEventListener) listener);
+    }
+
     /**
      * Sets an {@link Icon} to be use as the filter icon in the columns header.
      * If not icon is specified it will display VaadinIcon.FILTER icon as default. 
@@ -37,6 +37,7 @@ import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.dependency.Uses;
 import com.vaadin.flow.component.grid.Filter;
+import com.vaadin.flow.component.grid.FilterExpression;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridArrayUpdater;
 import com.vaadin.flow.component.grid.dataview.GridDataView;
@@ -1054,13 +1055,13 @@ public class EnhancedTreeGrid<T> extends EnhancedGrid<T> implements HasHierarchi
     }
 
 	@Override
-	protected void applyFilterPredicate(SerializablePredicate<T> finalPredicate) {
+	protected void applyFilterPredicate(SerializablePredicate<T> finalPredicate, FilterExpression filterExpression) {
 		DataProvider<T, ?> dataProvider = getDataProvider();
 		if (dataProvider instanceof TreeDataProvider<?>) {
 			((TreeDataProvider<T>) dataProvider).setFilter(finalPredicate);
 		} else if (dataProvider instanceof HierarchicalConfigurableFilterDataProvider) {
 			((HierarchicalConfigurableFilterDataProvider<T, Void, Filter>) dataProvider)
-					.setFilter(new Filter<T>(finalPredicate));
+					.setFilter(createFilter(finalPredicate, filterExpression));
 		}
 	}
 
@@ -32,4 +32,17 @@ public interface ApplyFilterListener {
 	 *               the filter to apply
 	 */
 	void onApplyFilter(Object filter);
+
+	/**
+	 * Called when the apply filter event is fired by a filter field. By
+	 * default, calls {@link #onApplyFilter(Object)}.
+	 * 
+	 * @param source
+	 *               the filter field whose filter is applied
+	 * @param filter
+	 *               the filter to apply
+	 */
+	default void onApplyFilter(FilterField source, Object filter) {
+		onApplyFilter(filter);
+	}
 }
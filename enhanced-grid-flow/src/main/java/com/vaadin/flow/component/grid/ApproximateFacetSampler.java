@@ -0,0 +1,348 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.ValueProvider;
+/**
+ * Estimates the distribution of the values of several columns from a sample
+ * of the items of a data provider, for backends too large to count the
+ * values exactly.
+ * <p>
+ * Pages of items spread evenly over the data provider are fetched in the
+ * background until the sample size is reached. The values of each column go
+ * through a HyperLogLog sketch estimating the number of distinct values and a
+ * count-min sketch estimating their frequencies, which keeps the most
+ * frequent ones as candidates. Memory stays constant whatever the number of
+ * distinct values.
+ *
+ * @param <T>
+ *            the type of the items
+ * @see EnhancedGrid#setApproximateFacets(boolean)
+ */
+public class ApproximateFacetSampler<T> implements Serializable {
+
+    /**
+     * Default maximum number of sampled items.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 10_000;
+
+    /**
+     * Default number of most frequent values kept per column.
+     */
+    public static final int DEFAULT_TOP_VALUE_COUNT = 50;
+
+    private static final int PAGE_SIZE = 500;
+
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+    private int topValueCount = DEFAULT_TOP_VALUE_COUNT;
+    private transient Executor executor;
+    private transient BackgroundTask<Map<Object, ApproximateFacets>> runningTask;
+
+    /**
+     * Sketches of the sampled values of one column.
+     */
+    private static final class ColumnSketch {
+        private final HyperLogLog distinctValues = new HyperLogLog();
+        private final CountMinSketch frequencies = new CountMinSketch();
+        private final Map<Object, Integer> candidates = new HashMap<>();
+        private final int capacity;
+
+        private ColumnSketch(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void add(Object value) {
+            long hash = hash(value);
+            distinctValues.add(hash);
+            int count = frequencies.add(hash);
+            if (candidates.containsKey(value)
+                    || candidates.size() < capacity) {
+                candidates.put(value, count);
+                return;
+            }
+            // the value replaces the least frequent candidate once it is
+            // more frequent
+            Object leastValue = null;
+            int leastCount = Integer.MAX_VALUE;
+            for (Map.Entry<Object, Integer> candidate : candidates
+                    .entrySet()) {
+                if (candidate.getValue() < leastCount) {
+                    leastValue = candidate.getKey();
+                    leastCount = candidate.getValue();
+                }
+            }
+            if (count > leastCount) {
+                candidates.remove(leastValue);
+                candidates.put(value, count);
+            }
+        }
+
+        private ApproximateFacets toFacets(int topValueCount,
+                int sampledCount, int totalCount) {
+            double scale = sampledCount == 0 ? 0
+                    : (double) totalCount / sampledCount;
+            List<FacetCount> topValues = candidates.keySet().stream()
+                    .map(value -> new FacetCount(value,
+                            Math.round(frequencies.estimate(hash(value))
+                                    * scale),
+                            true))
+                    .sorted(Comparator.comparingLong(FacetCount::getCount)
+                            .reversed())
+                    .limit(topValueCount).collect(Collectors.toList());
+            return new ApproximateFacets(topValues,
+                    distinctValues.estimate(), sampledCount, totalCount);
+        }
+    }
+
+    /**
+     * Returns a 64 bit hash of a value. Texts and numbers are hashed from
+     * their contents, other values from their 32 bit hash code and class, so
+     * the error bounds of the sketches only hold for them up to collisions of
+     * their hash codes.
+     */
+    private static long hash(Object value) {
+        if (value == null) {
+            return mix(0);
+        }
+        long hash;
+        if (value instanceof CharSequence) {
+            CharSequence text = (CharSequence) value;
+            hash = text.length();
+            for (int i = 0; i < text.length(); i++) {
+                hash = mix(hash + text.charAt(i));
+            }
+        } else if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            hash = ((Number) value).longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            hash = Double.doubleToLongBits(((Number) value).doubleValue());
+        } else {
+            hash = ((long) value.getClass().getName().hashCode() << 32)
+                    | (value.hashCode() & 0xFFFFFFFFL);
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Spreads the bits of a long with the finalizer of MurmurHash3.
+     */
+    private static long mix(long hash) {
+        hash ^= 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Sets the maximum number of sampled items. Default is
+     * {@value #DEFAULT_SAMPLE_SIZE}.
+     *
+     * @param sampleSize
+     *                   the sample size, positive
+     */
+    public void setSampleSize(int sampleSize) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The sample size must be positive");
+        }
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Returns the maximum number of sampled items.
+     *
+     * @return the sample size
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * Sets the number of most frequent values kept per column. Default is
+     * {@value #DEFAULT_TOP_VALUE_COUNT}.
+     *
+     * @param topValueCount
+     *                      the number of values, positive
+     */
+    public void setTopValueCount(int topValueCount) {
+        if (topValueCount <= 0) {
+            throw new IllegalArgumentException(
+                    "The top value count must be positive");
+        }
+        this.topValueCount = topValueCount;
+    }
+
+    /**
+     * Returns the number of most frequent values kept per column.
+     *
+     * @return the number of values
+     */
+    public int getTopValueCount() {
+        return topValueCount;
+    }
+
+    /**
+     * Sets the executor sampling the items in the background.
+     *
+     * @param executor
+     *                 the executor, or {@code null} to start a new virtual
+     *                 thread for each sampling
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns whether a sampling is currently running.
+     *
+     * @return {@code true} if a sampling is running
+     */
+    public boolean isRunning() {
+        return runningTask != null;
+    }
+
+    /**
+     * Cancels the running sampling, if any. Its result is discarded.
+     */
+    public void cancel() {
+        if (runningTask != null) {
+            runningTask.cancel();
+            runningTask = null;
+        }
+    }
+
+    /**
+     * Starts sampling the items, cancelling the running sampling. The data
+     * provider and the value providers are called outside of the session
+     * lock, so they must be thread safe.
+     *
+     * @param ui
+     *                      the UI to deliver the result in through
+     *                      {@link UI#access(com.vaadin.flow.server.Command)},
+     *                      or {@code null} to sample in the calling thread
+     * @param dataProvider
+     *                      the data provider to sample, with its current
+     *                      filter
+     * @param columns
+     *                      the value provider of each sampled column, by
+     *                      column
+     * @param callback
+     *                      receives the distribution of each column, by
+     *                      column, unless the sampling is cancelled or
+     *                      fails, a failure is logged
+     */
+    public void start(UI ui, DataProvider<T, ?> dataProvider,
+            Map<Object, ValueProvider<T, ?>> columns,
+            SerializableConsumer<Map<Object, ApproximateFacets>> callback) {
+        cancel();
+        BackgroundTask<Map<Object, ApproximateFacets>> task = new BackgroundTask<>(
+                ui, ApproximateFacetSampler.class);
+        Map<Object, ValueProvider<T, ?>> sampledColumns = new LinkedHashMap<>(
+                columns);
+        int size = sampleSize;
+        int topCount = topValueCount;
+        if (ui == null) {
+            callback.accept(
+                    sample(dataProvider, sampledColumns, size, topCount, task));
+            return;
+        }
+        runningTask = task;
+        task.start(executor,
+                () -> sample(dataProvider, sampledColumns, size, topCount,
+                        task),
+                facets -> {
+                    runningTask = null;
+                    callback.accept(facets);
+                },
+                // ends the task, so that the facets can be sampled again
+                failure -> runningTask = null);
+    }
+
+    /**
+     * Samples the items, or returns {@code null} once the task is cancelled.
+     */
+    private Map<Object, ApproximateFacets> sample(
+            DataProvider<T, ?> dataProvider,
+            Map<Object, ValueProvider<T, ?>> columns, int size, int topCount,
+            BackgroundTask<?> task) {
+        int totalCount = dataProvider.size(new Query<>());
+        Map<Object, ColumnSketch> sketches = new LinkedHashMap<>();
+        columns.keySet().forEach(
+                column -> sketches.put(column, new ColumnSketch(2 * topCount)));
+        int pageCount = (Math.min(totalCount, size) + PAGE_SIZE - 1)
+                / PAGE_SIZE;
+        int sampledCount = 0;
+        for (int page = 0; page < pageCount; page++) {
+            if (task.isEnded()) {
+                return null;
+            }
+            // pages are spread over all the items, so that the sample does
+            // not only reflect the first ones, and never run into the next
+            // page or past the count read when the sampling started
+            int offset;
+            int end;
+            if (totalCount <= size) {
+                offset = page * PAGE_SIZE;
+                end = totalCount;
+            } else {
+                offset = (int) ((long) page * totalCount / pageCount);
+                end = (int) ((long) (page + 1) * totalCount / pageCount);
+            }
+            int limit = Math.max(0, Math.min(PAGE_SIZE, end - offset));
+            if (limit == 0) {
+                continue;
+            }
+            List<T> items = dataProvider
+                    .fetch(new Query<>(offset, limit, null, null, null))
+                    .collect(Collectors.toList());
+            for (T item : items) {
+                for (Map.Entry<Object, ValueProvider<T, ?>> column : columns
+                        .entrySet()) {
+                    sketches.get(column.getKey())
+                            .add(column.getValue().apply(item));
+                }
+            }
+            sampledCount += items.size();
+        }
+        int sampled = sampledCount;
+        Map<Object, ApproximateFacets> facets = new LinkedHashMap<>();
+        sketches.forEach((column, sketch) -> facets.put(column,
+                sketch.toFacets(topCount, sampled, totalCount)));
+        return facets;
+    }
+}
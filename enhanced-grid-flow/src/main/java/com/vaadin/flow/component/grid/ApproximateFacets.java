@@ -0,0 +1,110 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Approximate distribution of the values of a column, estimated from a
+ * sample of the items by an {@link ApproximateFacetSampler}.
+ */
+public class ApproximateFacets implements Serializable {
+
+    private final List<FacetCount> topValues;
+    private final long estimatedDistinctCount;
+    private final int sampledCount;
+    private final int totalCount;
+
+    /**
+     * Creates a new distribution.
+     *
+     * @param topValues
+     *                               the most frequent values, by decreasing
+     *                               estimated count
+     * @param estimatedDistinctCount
+     *                               the estimated number of distinct values
+     *                               in the sample
+     * @param sampledCount
+     *                               the number of sampled items
+     * @param totalCount
+     *                               the number of items the sample was taken
+     *                               from
+     */
+    public ApproximateFacets(List<FacetCount> topValues,
+            long estimatedDistinctCount, int sampledCount, int totalCount) {
+        this.topValues = List.copyOf(topValues);
+        this.estimatedDistinctCount = estimatedDistinctCount;
+        this.sampledCount = sampledCount;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns the most frequent values with their estimated counts, scaled
+     * from the sample to all the items, by decreasing count. The counts are
+     * {@link FacetCount#isApproximate() flagged as approximate}.
+     *
+     * @return the most frequent values
+     */
+    public List<FacetCount> getTopValues() {
+        return topValues;
+    }
+
+    /**
+     * Returns the estimated number of distinct values among the sampled
+     * items. Unless the sample is {@link #isComplete() complete}, values
+     * missing from the sample make it a lower bound of the distinct values of
+     * all the items.
+     *
+     * @return the estimated number of distinct values
+     */
+    public long getEstimatedDistinctCount() {
+        return estimatedDistinctCount;
+    }
+
+    /**
+     * Returns the number of sampled items.
+     *
+     * @return the sampled item count
+     */
+    public int getSampledCount() {
+        return sampledCount;
+    }
+
+    /**
+     * Returns the number of items the sample was taken from.
+     *
+     * @return the total item count
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns whether all the items were sampled. The counts are still
+     * estimates then, but only overcount by the error of the sketch.
+     *
+     * @return {@code true} if every item was sampled
+     */
+    public boolean isComplete() {
+        return sampledCount >= totalCount;
+    }
+}
@@ -0,0 +1,45 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+import com.vaadin.flow.component.ComponentEvent;
+
+/**
+ * Event fired when an {@link EnhancedGrid} has sampled its items in the
+ * background and new approximate facets are available.
+ *
+ * @param <T>
+ *            the type of the grid items
+ * @see EnhancedGrid#setApproximateFacets(boolean)
+ */
+public class ApproximateFacetsEvent<T> extends ComponentEvent<Grid<T>> {
+
+    /**
+     * Creates a new event.
+     *
+     * @param source
+     *               the grid whose facets were sampled
+     */
+    public ApproximateFacetsEvent(Grid<T> source) {
+        super(source, false);
+    }
+}
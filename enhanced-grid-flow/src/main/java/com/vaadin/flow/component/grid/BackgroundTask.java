@@ -0,0 +1,152 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.server.Command;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * Work of a component computed outside of the session lock, whose results
+ * are handed back to the component through
+ * {@link UI#access(com.vaadin.flow.server.Command)}.
+ * <p>
+ * The task runs until it completes, fails or is {@link #cancel() cancelled}.
+ * Commands that reach the UI after that are discarded, so a component only
+ * has to cancel the running task before it starts a new one. The work
+ * itself should check {@link #isEnded()} regularly and give up, for example
+ * by throwing a {@link CancellationException}.
+ *
+ * @param <R>
+ *            the type of the result
+ */
+public class BackgroundTask<R> {
+
+    private final UI ui;
+    private final Class<?> owner;
+    private volatile boolean ended;
+
+    /**
+     * Creates a new task.
+     *
+     * @param ui
+     *              the UI to hand the results back to
+     * @param owner
+     *              the class running the task, whose logger reports
+     *              failures
+     */
+    public BackgroundTask(UI ui, Class<?> owner) {
+        this.ui = ui;
+        this.owner = owner;
+    }
+
+    /**
+     * Computes the result on the given executor. The result is passed to
+     * the completion handler, or a failure logged and passed to the failure
+     * handler, in the UI if the task has not ended by then. A
+     * {@link CancellationException} thrown by the work is ignored.
+     *
+     * @param executor
+     *                          the executor, or {@code null} to start a new
+     *                          virtual thread
+     * @param work
+     *                          computes the result outside of the session
+     *                          lock
+     * @param completionHandler
+     *                          receives the result in the UI
+     * @param failureHandler
+     *                          receives the exception in the UI
+     */
+    public void start(Executor executor, Supplier<R> work,
+            Consumer<R> completionHandler,
+            Consumer<RuntimeException> failureHandler) {
+        Executor taskExecutor = executor != null ? executor
+                : command -> Thread.ofVirtual().start(command);
+        taskExecutor.execute(() -> {
+            try {
+                R result = work.get();
+                finish(() -> completionHandler.accept(result));
+            } catch (CancellationException e) {
+                // superseded, the cancelling side has already reported it
+            } catch (RuntimeException e) {
+                // the executor thread has no handler of its own, report the
+                // failure here instead of rethrowing it
+                LoggerFactory.getLogger(owner).error("Background task failed",
+                        e);
+                finish(() -> failureHandler.accept(e));
+            }
+        });
+    }
+
+    /**
+     * Runs a command in the UI unless the task has ended by the time the
+     * command executes. The task ends if the UI is detached.
+     *
+     * @param command
+     *                the command to run
+     */
+    public void access(Command command) {
+        try {
+            ui.access(() -> {
+                if (!ended) {
+                    command.execute();
+                }
+            });
+        } catch (UIDetachedException e) {
+            ended = true;
+        }
+    }
+
+    private void finish(Command command) {
+        access(() -> {
+            ended = true;
+            command.execute();
+        });
+    }
+
+    /**
+     * Cancels the task, discarding its pending results. Has no effect on an
+     * ended task.
+     *
+     * @return {@code true} if the task was running
+     */
+    public boolean cancel() {
+        boolean running = !ended;
+        ended = true;
+        return running;
+    }
+
+    /**
+     * Returns whether the task has completed, failed or been cancelled.
+     *
+     * @return {@code true} if the task has ended
+     */
+    public boolean isEnded() {
+        return ended;
+    }
+}
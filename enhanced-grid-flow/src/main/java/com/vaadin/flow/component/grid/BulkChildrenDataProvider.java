@@ -0,0 +1,47 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
+
+/**
+ * Optional extension of a {@link HierarchicalDataProvider} that can fetch the
+ * children of many parents in a single backend call.
+ * <p>
+ * When the data provider of an enhanced tree grid implements this interface,
+ * selecting all items fetches the hierarchy one level at a time with one call
+ * per level instead of one call per node.
+ *
+ * @param <T> the type of the items
+ */
+public interface BulkChildrenDataProvider<T> {
+
+	/**
+	 * Fetches the direct children of all the given parents.
+	 * 
+	 * @param parents the parents to fetch children for, never empty
+	 * @return the children of all parents, in any order
+	 */
+	Stream<T> fetchChildrenOfAll(Collection<T> parents);
+}
@@ -0,0 +1,273 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedColumn;
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * Index of the values of one column over a snapshot of in-memory items,
+ * answering {@link FilterCondition filter conditions} without evaluating
+ * every row. Equality conditions use a hash index, range conditions a
+ * sorted index and text conditions a trigram index, each built on first use.
+ * Text conditions shorter than three characters cannot be looked up.
+ * <p>
+ * The index does not follow changes of the items, it has to be rebuilt when
+ * the data changes. See {@link EnhancedColumn#setIndexed(boolean)}. Lookups
+ * can run on several threads at once, each structure is built once under
+ * the lock of the index.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class ColumnIndex<T> implements Serializable {
+
+    private final Object[] items;
+    private final Object[] values;
+    private Map<Object, int[]> hashIndex;
+    private Map<Object, int[]> textHashIndex;
+    private int[] sortedPositions;
+    private boolean sortUnsupported;
+    private TrigramIndex trigramIndex;
+
+    /**
+     * Creates an index of the given items.
+     *
+     * @param items
+     *                      the items to index
+     * @param valueProvider
+     *                      the provider of the indexed column value
+     */
+    public ColumnIndex(Collection<T> items,
+            ValueProvider<T, ?> valueProvider) {
+        this.items = items.toArray();
+        this.values = new Object[this.items.length];
+        for (int i = 0; i < this.items.length; i++) {
+            values[i] = valueProvider.apply(getItem(i));
+        }
+    }
+
+    /**
+     * Returns the items whose column value matches the given condition.
+     *
+     * @param condition
+     *                  the condition to match
+     * @return the matching items, compared by identity, or {@code null} if
+     *         the condition cannot be answered by this index, for example a
+     *         range over values that are not comparable
+     */
+    public Set<T> lookup(FilterCondition condition) {
+        switch (condition.getOperator()) {
+        case EQUALS:
+            if (condition.getText() != null) {
+                return lookupTextEquals(condition);
+            }
+            return lookupValues(condition.getValues());
+        case IN:
+            return lookupValues(condition.getValues());
+        case RANGE:
+            return lookupRange(condition);
+        case CONTAINS:
+        case STARTS_WITH:
+            return lookupText(condition);
+        default:
+            return null;
+        }
+    }
+
+    private Set<T> lookupValues(Set<Object> matchedValues) {
+        Map<Object, int[]> index = getHashIndex();
+        Set<T> result = newIdentitySet();
+        for (Object value : matchedValues) {
+            int[] positions = index.get(value);
+            if (positions != null) {
+                for (int position : positions) {
+                    result.add(getItem(position));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Looks up the case folded text of the values, then tests the candidates
+     * to honor the case sensitivity of the condition.
+     */
+    private Set<T> lookupTextEquals(FilterCondition condition) {
+        Set<T> result = newIdentitySet();
+        int[] positions = getTextHashIndex().get(foldCase(condition.getText()));
+        if (positions != null) {
+            for (int position : positions) {
+                if (condition.test(values[position])) {
+                    result.add(getItem(position));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String foldCase(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = TrigramIndex.fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private synchronized Map<Object, int[]> getHashIndex() {
+        if (hashIndex == null) {
+            hashIndex = buildHashIndex(value -> value);
+        }
+        return hashIndex;
+    }
+
+    private synchronized Map<Object, int[]> getTextHashIndex() {
+        if (textHashIndex == null) {
+            textHashIndex = buildHashIndex(
+                    value -> foldCase(value.toString()));
+        }
+        return textHashIndex;
+    }
+
+    /**
+     * Returns the positions of the non {@code null} values sorted by value,
+     * or {@code null} if the values cannot be sorted.
+     */
+    private synchronized int[] getSortedPositions() {
+        if (sortedPositions == null && !sortUnsupported) {
+            sortedPositions = buildSortedIndex();
+            sortUnsupported = sortedPositions == null;
+        }
+        return sortedPositions;
+    }
+
+    private synchronized TrigramIndex getTrigramIndex() {
+        if (trigramIndex == null) {
+            trigramIndex = new TrigramIndex(values);
+        }
+        return trigramIndex;
+    }
+
+    private Map<Object, int[]> buildHashIndex(
+            Function<Object, Object> keyFunction) {
+        Map<Object, List<Integer>> grouped = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                grouped.computeIfAbsent(keyFunction.apply(values[i]),
+                        key -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<Object, int[]> index = new HashMap<>(grouped.size() * 4 / 3 + 1);
+        grouped.forEach((value, positions) -> index.put(value,
+                positions.stream().mapToInt(Integer::intValue).toArray()));
+        return index;
+    }
+
+    private Set<T> lookupRange(FilterCondition condition) {
+        int[] sorted = getSortedPositions();
+        if (sorted == null) {
+            return null;
+        }
+        int from;
+        int to;
+        try {
+            from = firstPosition(sorted,
+                    position -> condition.isAboveLowerBound(values[position]));
+            to = firstPosition(sorted,
+                    position -> !condition.isBelowUpperBound(values[position]));
+        } catch (ClassCastException e) {
+            // the bounds are not comparable with the column values
+            return null;
+        }
+        Set<T> result = newIdentitySet();
+        for (int i = from; i < to; i++) {
+            result.add(getItem(sorted[i]));
+        }
+        return result;
+    }
+
+    private Set<T> lookupText(FilterCondition condition) {
+        int[] candidates = getTrigramIndex().candidates(condition.getText());
+        if (candidates == null) {
+            return null;
+        }
+        Set<T> result = newIdentitySet();
+        for (int position : candidates) {
+            if (condition.test(values[position])) {
+                result.add(getItem(position));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private int[] buildSortedIndex() {
+        try {
+            return IntStream.range(0, values.length)
+                    .filter(i -> values[i] instanceof Comparable).boxed()
+                    .sorted((a, b) -> ((Comparable) values[a])
+                            .compareTo(values[b]))
+                    .mapToInt(Integer::intValue).toArray();
+        } catch (ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Binary search of the first index in the sorted positions for which the
+     * test is true, the test being false then true along the sorted values.
+     */
+    private static int firstPosition(int[] sorted, IntPredicate test) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (test.test(sorted[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T getItem(int position) {
+        return (T) items[position];
+    }
+
+    private Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,283 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * The items of a snapshot matching the filter of each column, as one bit set
+ * per column indexed by item position. Updating the filters only evaluates
+ * the columns whose filter changed, the items matching all the columns, or
+ * all but one, are then found by intersecting the bit sets.
+ * <p>
+ * A filter is considered unchanged if it is equal to a snapshot of the
+ * previous one, so filters that do not implement {@link Object#equals(Object)},
+ * or that are edited in place without returning a copy from
+ * {@link FilterFieldDto#snapshot()}, are evaluated on every update. The snapshot does not follow changes of the items.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class ColumnMatchSets<T> implements Serializable {
+
+    private final Object[] items;
+    private final Map<Object, ColumnMatches> columns = new LinkedHashMap<>();
+
+    /**
+     * Matches of the filter of one column.
+     */
+    private static final class ColumnMatches implements Serializable {
+        /** snapshot of the filter the matches were evaluated with */
+        @SuppressWarnings("rawtypes")
+        private FilterFieldDto filterValue;
+        /** false if the snapshot is the live filter, edited in place */
+        private boolean detached;
+        /** null if the filter is empty and all items match */
+        private BitSet matches;
+    }
+
+    /**
+     * Creates match sets over a snapshot of the given items.
+     *
+     * @param items
+     *              the items, copied
+     */
+    public ColumnMatchSets(Collection<T> items) {
+        this.items = items.toArray();
+    }
+
+    private ColumnMatchSets(Object[] items) {
+        this.items = items;
+    }
+
+    /**
+     * Returns a copy of these match sets that can be updated independently.
+     * The snapshot of the items and the bit sets are shared, as they are
+     * never modified.
+     *
+     * @return the copy
+     */
+    public ColumnMatchSets<T> copy() {
+        ColumnMatchSets<T> copy = new ColumnMatchSets<>(items);
+        columns.forEach((column, columnMatches) -> {
+            ColumnMatches copiedMatches = new ColumnMatches();
+            copiedMatches.filterValue = columnMatches.filterValue;
+            copiedMatches.detached = columnMatches.detached;
+            copiedMatches.matches = columnMatches.matches;
+            copy.columns.put(column, copiedMatches);
+        });
+        return copy;
+    }
+
+    /**
+     * Returns the number of items of the snapshot.
+     *
+     * @return the item count
+     */
+    public int getItemCount() {
+        return items.length;
+    }
+
+    /**
+     * Returns the item at a position of the snapshot.
+     *
+     * @param index
+     *              the position of the item
+     * @return the item
+     */
+    @SuppressWarnings("unchecked")
+    public T getItem(int index) {
+        return (T) items[index];
+    }
+
+    /**
+     * Sets the filter of a column, evaluating it on all the items unless it
+     * is equal to the current filter of the column.
+     *
+     * @param column
+     *                      the column, or any key identifying it
+     * @param valueProvider
+     *                      the value provider of the column
+     * @param filterValue
+     *                      the filter of the column, not {@code null}
+     * @return {@code true} if the matches of the column changed
+     */
+    public boolean update(Object column, ValueProvider<T, ?> valueProvider,
+            FilterFieldDto filterValue) {
+        return update(column, valueProvider, filterValue, true);
+    }
+
+    /**
+     * Sets the filter of a column, evaluating it on all the items unless it
+     * is equal to the current filter of the column. A filter that does not
+     * implement equals, or whose snapshot is the filter itself, is only
+     * evaluated again if it may have changed.
+     *
+     * @param column
+     *                      the column, or any key identifying it
+     * @param valueProvider
+     *                      the value provider of the column
+     * @param filterValue
+     *                      the filter of the column, not {@code null}
+     * @param mayHaveChanged
+     *                      {@code false} if the filter is known to be the
+     *                      one of the previous update of the column
+     * @return {@code true} if the matches of the column changed
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public boolean update(Object column, ValueProvider<T, ?> valueProvider,
+            FilterFieldDto filterValue, boolean mayHaveChanged) {
+        ColumnMatches columnMatches = columns.get(column);
+        // a mutable filter returning itself as snapshot would always be equal
+        // to the stored one, even after being edited in place
+        if (columnMatches != null
+                && (columnMatches.detached
+                        && FilterResultCache.hasValueEquality(filterValue)
+                                ? filterValue.equals(columnMatches.filterValue)
+                                : !mayHaveChanged)) {
+            return false;
+        }
+        if (columnMatches == null) {
+            columnMatches = new ColumnMatches();
+            columns.put(column, columnMatches);
+        }
+        FilterFieldDto snapshot = filterValue.snapshot();
+        columnMatches.filterValue = snapshot;
+        columnMatches.detached = FilterFieldDto.isDetachedSnapshot(snapshot,
+                filterValue);
+        if (snapshot.isEmpty()) {
+            columnMatches.matches = null;
+            return true;
+        }
+        Predicate<Object> predicate = snapshot.getFilterPredicate();
+        BitSet matches = new BitSet(items.length);
+        for (int i = 0; i < items.length; i++) {
+            if (predicate.test(valueProvider.apply((T) items[i]))) {
+                matches.set(i);
+            }
+        }
+        columnMatches.matches = matches;
+        return true;
+    }
+
+    /**
+     * Returns whether the filter of a column has been evaluated.
+     *
+     * @param column
+     *               the column, or any key identifying it
+     * @return {@code true} if the column has matches
+     */
+    public boolean contains(Object column) {
+        return columns.containsKey(column);
+    }
+
+    /**
+     * Removes the matches of a column, so that its filter is evaluated on the
+     * next update whatever its value.
+     *
+     * @param column
+     *               the column, or any key identifying it
+     */
+    public void remove(Object column) {
+        columns.remove(column);
+    }
+
+    /**
+     * Removes the columns that are not part of the given ones.
+     *
+     * @param retainedColumns
+     *                        the columns to keep
+     * @return {@code true} if a column was removed
+     */
+    public boolean retainColumns(Collection<?> retainedColumns) {
+        return columns.keySet().retainAll(retainedColumns);
+    }
+
+    /**
+     * Returns the items matching the filters of all the columns.
+     *
+     * @return the matching items, in the order of the snapshot
+     */
+    public ItemPositionSet<T> getMatchingItems() {
+        return ItemPositionSet.of(items, getMatches(null).stream().toArray());
+    }
+
+    /**
+     * Returns what the matches of all the columns except the given one depend
+     * on: the snapshot of the items and the bit set of each filtered column.
+     * An update that changes the matches of a column replaces its bit set, so
+     * two states holding the same objects, compared by identity, stand for
+     * the same matches.
+     *
+     * @param excludedColumn
+     *                       the column whose filter is ignored
+     * @return the state of the matches
+     */
+    List<Object> getMatchesState(Object excludedColumn) {
+        List<Object> state = new ArrayList<>(columns.size() + 1);
+        state.add(items);
+        columns.forEach((column, columnMatches) -> {
+            if (columnMatches.matches != null
+                    && !column.equals(excludedColumn)) {
+                state.add(columnMatches.matches);
+            }
+        });
+        return state;
+    }
+
+    /**
+     * Returns the positions of the items matching the filters of all the
+     * columns except the given one.
+     *
+     * @param excludedColumn
+     *                       the column whose filter is ignored, or
+     *                       {@code null} to intersect all the columns
+     * @return a new bit set of the matching positions
+     */
+    public BitSet getMatches(Object excludedColumn) {
+        BitSet result = null;
+        for (Map.Entry<Object, ColumnMatches> entry : columns.entrySet()) {
+            BitSet matches = entry.getValue().matches;
+            if (matches == null || entry.getKey().equals(excludedColumn)) {
+                continue;
+            }
+            if (result == null) {
+                result = (BitSet) matches.clone();
+            } else {
+                result.and(matches);
+            }
+        }
+        if (result == null) {
+            result = new BitSet(items.length);
+            result.set(0, items.length);
+        }
+        return result;
+    }
+}
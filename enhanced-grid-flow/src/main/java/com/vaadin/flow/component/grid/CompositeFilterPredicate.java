@@ -0,0 +1,204 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * Predicate combining the column filters of an {@link EnhancedGrid} with a
+ * logical AND.
+ * <p>
+ * The column filters are checked in the order of their expected cost per
+ * rejected item: the average evaluation time of a filter divided by the share
+ * of items it rejects. Cheap filters that reject many items run first, so most
+ * items are rejected after a single check. The cost and the rejection rate are
+ * measured while filtering: one item in 64, picked at random, is checked
+ * against all filters with timing, and the order is recomputed every 256
+ * measured items. Older measurements are halved at each reordering so that
+ * the order follows changes of the data.
+ * <p>
+ * The predicate can be tested from several threads at once, for example by
+ * {@link ParallelListDataProvider}. The statistics are kept in
+ * {@link LongAdder} counters, a single thread recomputes the order at a time,
+ * and the reordered filters are published as a new array, so threads
+ * iterating the previous order are not affected. Measurements made while
+ * reordering may be lost.
+ *
+ * @param <T>
+ *            the type of the grid items
+ */
+public class CompositeFilterPredicate<T> implements SerializablePredicate<T> {
+
+    private static final int SAMPLE_MASK = 64 - 1;
+    private static final int REORDER_SAMPLES = 256;
+
+    private volatile Term<T>[] terms = newTermArray(0);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicBoolean reordering = new AtomicBoolean();
+
+    /**
+     * Adds a column filter to this predicate.
+     *
+     * @param valueProvider
+     *                        the provider of the column value an item is
+     *                        filtered on
+     * @param valuePredicate
+     *                        the predicate the column value must match
+     * @param <V>
+     *                        the type of the column value
+     */
+    public <V> void addTerm(ValueProvider<T, V> valueProvider,
+            Predicate<? super V> valuePredicate) {
+        Term<T>[] newTerms = Arrays.copyOf(terms, terms.length + 1);
+        newTerms[terms.length] = new Term<>(
+                item -> valuePredicate.test(valueProvider.apply(item)));
+        terms = newTerms;
+    }
+
+    /**
+     * Returns the number of column filters combined by this predicate.
+     *
+     * @return the number of filters
+     */
+    public int getTermCount() {
+        return terms.length;
+    }
+
+    @Override
+    public boolean test(T item) {
+        Term<T>[] current = terms;
+        // a random pick avoids sharing a counter between the threads on
+        // every item
+        if ((ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) == 0) {
+            boolean result = testMeasured(current, item);
+            if (sampleCount.incrementAndGet() % REORDER_SAMPLES == 0) {
+                reorder();
+            }
+            return result;
+        }
+        for (Term<T> term : current) {
+            if (!term.predicate.test(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the item against every filter, without stopping at the first
+     * rejection, to measure the filters independently of their order.
+     */
+    private boolean testMeasured(Term<T>[] current, T item) {
+        boolean result = true;
+        for (Term<T> term : current) {
+            long start = System.nanoTime();
+            boolean passed = term.predicate.test(item);
+            term.nanos.add(System.nanoTime() - start);
+            term.samples.increment();
+            if (!passed) {
+                term.rejections.increment();
+                result = false;
+            }
+        }
+        return result;
+    }
+
+    private void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // the array being iterated by other threads is never modified
+            Term<T>[] reordered = terms.clone();
+            // the ranks are computed once, as other threads may update the
+            // statistics while sorting
+            Map<Term<T>, Double> ranks = new IdentityHashMap<>();
+            for (Term<T> term : reordered) {
+                term.rank = term.computeRank();
+                ranks.put(term, term.rank);
+            }
+            Arrays.sort(reordered, Comparator.comparingDouble(ranks::get));
+            for (Term<T> term : reordered) {
+                term.decay();
+            }
+            terms = reordered;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Term<T>[] newTermArray(int length) {
+        return new Term[length];
+    }
+
+    private static class Term<T> implements Serializable {
+
+        private final SerializablePredicate<T> predicate;
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        /** only accessed by the thread reordering the terms */
+        private double rank;
+
+        private Term(SerializablePredicate<T> predicate) {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Expected cost to reject an item: the average cost of a check
+         * divided by the rejection rate. Filters that never reject go last.
+         */
+        private double computeRank() {
+            if (samples.sum() == 0) {
+                return rank;
+            }
+            long rejected = rejections.sum();
+            if (rejected == 0) {
+                return Double.MAX_VALUE;
+            }
+            return (double) nanos.sum() / rejected;
+        }
+
+        private void decay() {
+            halve(samples);
+            halve(rejections);
+            halve(nanos);
+        }
+
+        private static void halve(LongAdder adder) {
+            adder.add(-(adder.sum() / 2));
+        }
+    }
+}
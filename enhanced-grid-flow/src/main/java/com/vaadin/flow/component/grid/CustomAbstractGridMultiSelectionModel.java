@@ -23,8 +23,13 @@ package com.vaadin.flow.component.grid;
 import com.vaadin.flow.component.AbstractField;
 import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
+import com.vaadin.flow.data.provider.DataCommunicator;
 import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.ListDataProvider;
 import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
 import com.vaadin.flow.data.selection.MultiSelect;
@@ -33,10 +38,17 @@ import com.vaadin.flow.data.selection.MultiSelectionListener;
 import com.vaadin.flow.data.selection.SelectionEvent;
 import com.vaadin.flow.data.selection.SelectionListener;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableComparator;
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -45,9 +57,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+
+import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
 
 /**
@@ -59,9 +76,42 @@ import tools.jackson.databind.node.ObjectNode;
 public abstract class CustomAbstractGridMultiSelectionModel<T>
         extends Grid.AbstractGridExtension<T> implements GridMultiSelectionModel<T> {
 
-    private final Set<T> selected;
+    /**
+     * Selected items indexed by their data provider id, so that membership
+     * checks done for every generated row are a single hash lookup.
+     */
+    private SelectionStore<T> selected;
+    /**
+     * Items deselected after a symbolic select all, indexed by id.
+     */
+    private final Map<Object, T> deselectedFromAll;
     private final CustomGridSelectionColumn selectionColumn;
     private SelectAllCheckboxVisibility selectAllCheckBoxVisibility;
+    private boolean symbolicSelectAll;
+    private boolean allSelected;
+    private SerializablePredicate<T> allSelectedFilter;
+    private final List<Filter<T>> allSelectedFilters = new ArrayList<>();
+    private long selectionVersion;
+    private int cachedRowCount = -1;
+    private DataProvider<T, ?> countedDataProvider;
+    private Registration rowCountInvalidationRegistration;
+    private boolean breadthFirstDescendantFetch;
+    private transient Executor descendantFetchExecutor;
+    private boolean asyncSelectAll;
+    private transient Executor selectAllExecutor;
+    private transient SelectAllTask<T> selectAllTask;
+    private boolean batchedSelectionRefresh;
+    private DataProvider<T, Filter<T>> selectAllDataProvider;
+
+    private static final int FETCH_PAGE_SIZE = 500;
+
+    /**
+     * Default maximum number of rows toggled by a single range sent by the
+     * client.
+     */
+    public static final int DEFAULT_MAX_CLIENT_RANGE_SIZE = 10000;
+
+    private int maxClientRangeSize = DEFAULT_MAX_CLIENT_RANGE_SIZE;
 
     /**
      * Constructor for passing a reference of the grid to this implementation.
@@ -72,9 +122,10 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
      */
     public CustomAbstractGridMultiSelectionModel(Grid<T> grid) {
         super(grid);
-        selected = new LinkedHashSet<>();
+        selected = new ItemSelectionStore<>();
+        deselectedFromAll = new HashMap<>();
         selectionColumn = new CustomGridSelectionColumn(this::clientSelectAll,
-                this::clientDeselectAll);
+                this::clientDeselectAll, this::clientRangeToggle);
         selectAllCheckBoxVisibility = SelectAllCheckboxVisibility.DEFAULT;
 
         selectionColumn
@@ -99,7 +150,13 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
     @Override
     protected void remove() {
         super.remove();
+        cancelSelectAll();
         deselectAll();
+        if (rowCountInvalidationRegistration != null) {
+            rowCountInvalidationRegistration.remove();
+            rowCountInvalidationRegistration = null;
+            countedDataProvider = null;
+        }
         if (selectionColumn.getElement().getNode().isAttached()) {
             getGrid().getElement().removeChild(selectionColumn.getElement());
         }
@@ -110,11 +167,18 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
         if (isSelected(item)) {
             return;
         }
-        Set<T> oldSelection = new LinkedHashSet<>(selected);
-        boolean added = selected.add(item);
+        fireClientItemToggle(item, true, false);
+        Object id = getItemId(item);
+        boolean added = addToSelection(id, item);
         if (added) {
-            fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
-                    getGrid().asMultiSelect(), oldSelection, true));
+            fireSelectionChange(Collections.singletonMap(id, item),
+                    Collections.emptyMap(), null, true);
+
+            if (allSelected) {
+                selectionColumn
+                        .setSelectAllCheckboxState(deselectedFromAll.isEmpty());
+                return;
+            }
 
             long size = 0;
 
@@ -124,7 +188,7 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
             // Avoid throwing an IllegalArgumentException in case of
             // HierarchicalDataProvider
             if (!(dataProvider instanceof HierarchicalDataProvider)) {
-                size = dataProvider.size(new Query<>());
+                size = getRowCount(dataProvider);
             }
 
             selectionColumn.setSelectAllCheckboxState(size == selected.size());
@@ -136,30 +200,306 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
         if (!isSelected(item)) {
             return;
         }
-        Set<T> oldSelection = new LinkedHashSet<>(selected);
-        boolean removed = selected.remove(item);
+        fireClientItemToggle(item, false, false);
+        Object id = getItemId(item);
+        boolean removed = removeFromSelection(id, item);
         if (removed) {
-            fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
-                    getGrid().asMultiSelect(), oldSelection, true));
+            fireSelectionChange(Collections.emptyMap(),
+                    Collections.singletonMap(id, item), null, true);
         }
         selectionColumn.setSelectAllCheckboxState(false);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * After a symbolic select all (see {@link #setSymbolicSelectAll(boolean)})
+     * the returned set is a lazy snapshot: membership checks are answered
+     * without fetching, while iterating it fetches the selected items from
+     * the data provider page by page. With a backend data provider, see
+     * {@link #setSelectAllDataProvider(DataProvider)} for iterating items
+     * selected under another filter than the current one.
+     */
     @Override
     public Set<T> getSelectedItems() {
         /*
-         * A new LinkedHashSet is created to avoid
-         * ConcurrentModificationExceptions when changing the selection during
-         * an iteration
+         * A new set is created to avoid ConcurrentModificationExceptions when
+         * changing the selection during an iteration
          */
-        return Collections.unmodifiableSet(new LinkedHashSet<>(selected));
+        return Collections.unmodifiableSet(snapshotSelection());
     }
 
     @Override
     public Optional<T> getFirstSelectedItem() {
+        if (allSelected) {
+            return getSelectedItems().stream().findFirst();
+        }
         return selected.stream().findFirst();
     }
 
+    /**
+     * Sets the store keeping the explicitly selected items. The current
+     * selection is copied to the new store.
+     * <p>
+     * By default the selected items are kept in an
+     * {@link ItemSelectionStore}. For numeric ids, a
+     * {@link LongIdSelectionStore} keeps only the ids and resolves the items
+     * when the selection is read, which uses much less memory for large
+     * selections.
+     *
+     * @param selectionStore
+     *                       the store to use, not {@code null}
+     */
+    public void setSelectionStore(SelectionStore<T> selectionStore) {
+        Objects.requireNonNull(selectionStore,
+                "selection store cannot be null");
+        if (!selected.isEmpty()) {
+            selected.stream()
+                    .forEach(item -> selectionStore.add(getItemId(item), item));
+        }
+        selected = selectionStore;
+    }
+
+    /**
+     * Returns the store keeping the explicitly selected items.
+     *
+     * @return the selection store
+     */
+    public SelectionStore<T> getSelectionStore() {
+        return selected;
+    }
+
+    /**
+     * Sets the maximum number of rows toggled by a single shift click or drag
+     * range sent by the client. The indexes of a range come from the client,
+     * so they are clamped to the rows of the grid, and a longer range is
+     * shortened to end at the clicked row. Default is
+     * {@value #DEFAULT_MAX_CLIENT_RANGE_SIZE}.
+     *
+     * @param maxClientRangeSize
+     *                           the maximum number of rows, at least 1
+     */
+    public void setMaxClientRangeSize(int maxClientRangeSize) {
+        if (maxClientRangeSize < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum client range size must be at least 1");
+        }
+        this.maxClientRangeSize = maxClientRangeSize;
+    }
+
+    /**
+     * Returns the maximum number of rows toggled by a single range sent by
+     * the client.
+     *
+     * @return the maximum number of rows
+     * @see #setMaxClientRangeSize(int)
+     */
+    public int getMaxClientRangeSize() {
+        return maxClientRangeSize;
+    }
+
+    /**
+     * Discards the cached row count used to decide the state of the select
+     * all checkbox, so that the next client selection queries the data
+     * provider again.
+     * <p>
+     * The cache is already invalidated when the data provider fires a data
+     * change event, for example on {@link DataProvider#refreshAll()}, and when
+     * {@link EnhancedGrid} applies a filter. Call this method if the row count
+     * of the backend changes without such an event.
+     */
+    public void invalidateRowCountCache() {
+        cachedRowCount = -1;
+    }
+
+    /**
+     * Returns the number of rows of the data provider, querying it only when
+     * the cached count was invalidated.
+     *
+     * @param dataProvider
+     *                     the current data provider of the grid
+     * @return the row count
+     */
+    private int getRowCount(DataProvider<T, ?> dataProvider) {
+        if (dataProvider != countedDataProvider) {
+            if (rowCountInvalidationRegistration != null) {
+                rowCountInvalidationRegistration.remove();
+            }
+            countedDataProvider = dataProvider;
+            rowCountInvalidationRegistration = dataProvider
+                    .addDataProviderListener(event -> {
+                        // refreshing a single item doesn't change the count
+                        if (!(event instanceof DataRefreshEvent)) {
+                            invalidateRowCountCache();
+                        }
+                    });
+            invalidateRowCountCache();
+        }
+        if (cachedRowCount < 0) {
+            cachedRowCount = dataProvider.size(new Query<>());
+        }
+        return cachedRowCount;
+    }
+
+    /**
+     * Sets whether selecting all items stores the selection symbolically, as
+     * "all items matching the active filter except the ones deselected
+     * afterwards", instead of fetching every item from the data provider into
+     * the selection.
+     * <p>
+     * This is meant for large lazy data providers. Selection checks for
+     * rendered rows stay constant time, and the effective selection can be
+     * read in chunks with {@link #forEachSelectedChunk(int, Consumer)}.
+     * Hierarchical data providers always use the regular select all.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @param symbolicSelectAll
+     *                          {@code true} to store select all symbolically
+     */
+    public void setSymbolicSelectAll(boolean symbolicSelectAll) {
+        this.symbolicSelectAll = symbolicSelectAll;
+    }
+
+    /**
+     * Returns whether selecting all items stores the selection symbolically.
+     *
+     * @return {@code true} if select all is stored symbolically
+     * @see #setSymbolicSelectAll(boolean)
+     */
+    public boolean isSymbolicSelectAll() {
+        return symbolicSelectAll;
+    }
+
+    /**
+     * Sets the data provider fetching the items of a symbolic select all when
+     * the grid uses a backend data provider. It is queried with each
+     * {@link Filter} that was applied when the items were selected, so it is
+     * usually the data provider wrapped by the
+     * {@link com.vaadin.flow.data.provider.ConfigurableFilterDataProvider} of
+     * the grid. A {@code null} filter in a query stands for all items.
+     * <p>
+     * Without it, the items are fetched from the data provider of the grid,
+     * which only returns the items matching the filter applied now. Iterating
+     * a selection made under another filter, for example
+     * {@link #getSelectedItems()} after the filter changed, then throws an
+     * {@link IllegalStateException} rather than leaving out selected items.
+     * In-memory data providers do not need it.
+     *
+     * @param selectAllDataProvider
+     *                              the data provider accepting the filters of
+     *                              the grid, or {@code null} to use the data
+     *                              provider of the grid
+     */
+    public void setSelectAllDataProvider(
+            DataProvider<T, Filter<T>> selectAllDataProvider) {
+        this.selectAllDataProvider = selectAllDataProvider;
+    }
+
+    /**
+     * Returns the data provider fetching the items of a symbolic select all.
+     *
+     * @return the data provider, or {@code null} if the data provider of the
+     *         grid is used
+     * @see #setSelectAllDataProvider(DataProvider)
+     */
+    public DataProvider<T, Filter<T>> getSelectAllDataProvider() {
+        return selectAllDataProvider;
+    }
+
+    /**
+     * Returns whether the selection is currently defined symbolically as all
+     * items matching the filter that was active when all items were selected.
+     *
+     * @return {@code true} if a symbolic select all is active
+     * @see #setSymbolicSelectAll(boolean)
+     */
+    public boolean isAllSelected() {
+        return allSelected;
+    }
+
+    /**
+     * Selects all items matching the filter currently applied to the grid
+     * without fetching them, whether symbolic select all is enabled or not.
+     * The selection is then described by {@link #getSelectionDefinition()},
+     * so bulk actions can be executed on the backend.
+     *
+     * @throws IllegalStateException
+     *                               if the grid uses a hierarchical data
+     *                               provider
+     * @see #setSymbolicSelectAll(boolean)
+     */
+    public void selectAllMatchingFilter() {
+        if (getGrid().getDataCommunicator()
+                .getDataProvider() instanceof HierarchicalDataProvider) {
+            throw new IllegalStateException(
+                    "Selecting all matching items is not supported for hierarchical data providers.");
+        }
+        doSymbolicSelectAll(false);
+    }
+
+    /**
+     * Returns the symbolic description of the selection after a select all,
+     * made of the {@link Filter} objects that were applied to the data
+     * provider when the items were selected and of the ids changed
+     * afterwards.
+     *
+     * @return the selection definition, or an empty optional if no symbolic
+     *         select all is active
+     * @see #selectAllMatchingFilter()
+     */
+    public Optional<SelectionDefinition<T>> getSelectionDefinition() {
+        if (!allSelected) {
+            return Optional.empty();
+        }
+        return Optional.of(new SelectionDefinition<>(allSelectedFilters,
+                deselectedFromAll.keySet(),
+                selected.streamIds().collect(Collectors.toSet())));
+    }
+
+    /**
+     * Returns the items deselected since the last symbolic select all.
+     *
+     * @return the items excluded from the symbolic select all, empty if no
+     *         symbolic select all is active
+     */
+    public Set<T> getDeselectedFromAllItems() {
+        return Collections.unmodifiableSet(
+                new LinkedHashSet<>(deselectedFromAll.values()));
+    }
+
+    /**
+     * Passes the effective selection to the given consumer in chunks of at
+     * most {@code chunkSize} items. When a symbolic select all is active,
+     * items are fetched from the data provider page by page, so the whole
+     * selection is never held in memory at once.
+     *
+     * @param chunkSize
+     *                      the maximum number of items per chunk, greater than
+     *                      zero
+     * @param chunkConsumer
+     *                      the consumer receiving each chunk, not {@code null}
+     */
+    public void forEachSelectedChunk(int chunkSize,
+            Consumer<List<T>> chunkConsumer) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Chunk size must be greater than zero.");
+        }
+        Objects.requireNonNull(chunkConsumer, "chunk consumer cannot be null");
+        List<T> chunk = new ArrayList<>(chunkSize);
+        for (T item : getSelectedItems()) {
+            chunk.add(item);
+            if (chunk.size() == chunkSize) {
+                chunkConsumer.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+        }
+    }
+
     @Override
     public void select(T item) {
         if (isSelected(item)) {
@@ -187,6 +527,10 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
 
     @Override
     public void selectAll() {
+        if (isSymbolicSelectAllApplicable()) {
+            doSymbolicSelectAll(false);
+            return;
+        }
         updateSelection(
                 getGrid().getDataCommunicator().getDataProvider()
                         .fetch(new Query<>()).collect(Collectors.toSet()),
@@ -196,7 +540,24 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
 
     @Override
     public void deselectAll() {
-        updateSelection(Collections.emptySet(), getSelectedItems());
+        doDeselectAll(false);
+    }
+
+    private void doDeselectAll(boolean userOriginated) {
+        if (allSelected) {
+            doClearSymbolicSelection(userOriginated);
+        } else if (selected instanceof ItemSelectionStore) {
+            doUpdateSelection(Collections.emptySet(), getSelectedItems(),
+                    userOriginated);
+        } else if (!selected.isEmpty()) {
+            // the items of ids hidden by the filter cannot be resolved, so
+            // the ids are cleared directly instead of deselecting the items
+            Set<T> oldSelection = snapshotSelection();
+            selected.clear();
+            getGrid().getDataCommunicator().reset();
+            fireSelectionChange(Collections.emptyMap(),
+                    Collections.emptyMap(), oldSelection, userOriginated);
+        }
         selectionColumn.setSelectAllCheckboxState(false);
     }
 
@@ -207,10 +568,77 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
         doUpdateSelection(addedItems, removedItems, false);
     }
 
+    /**
+     * Selects the rows between two flat row indexes, both included, as shown
+     * by the grid with its current sorting and filtering. The rows are
+     * fetched at once, the items rejected by the selection predicate are
+     * skipped, and a single selection event is fired.
+     *
+     * @param fromIndex
+     *                  the index of the first row of the range
+     * @param toIndex
+     *                  the index of the last row of the range, may be lower
+     *                  than {@code fromIndex}
+     */
+    public void selectRange(int fromIndex, int toIndex) {
+        updateRange(fetchRange(fromIndex, toIndex), true, false);
+    }
+
+    /**
+     * Deselects the rows between two flat row indexes, both included, as
+     * shown by the grid with its current sorting and filtering. A single
+     * selection event is fired.
+     *
+     * @param fromIndex
+     *                  the index of the first row of the range
+     * @param toIndex
+     *                  the index of the last row of the range, may be lower
+     *                  than {@code fromIndex}
+     */
+    public void deselectRange(int fromIndex, int toIndex) {
+        updateRange(fetchRange(fromIndex, toIndex), false, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * While dragging, the client collects the rows covered by the pointer and
+     * sends them to the server as index ranges at most every 100
+     * milliseconds. Each range is applied with a single selection event, and
+     * the selection predicate is honored. Rows that are left again before
+     * releasing the pointer keep their new state. Drag select only reacts to
+     * mouse pointers.
+     */
+    @Override
+    public void setDragSelect(boolean dragSelect) {
+        selectionColumn.getElement().setProperty("dragSelect", dragSelect);
+    }
+
+    @Override
+    public boolean isDragSelect() {
+        return selectionColumn.getElement().getProperty("dragSelect", false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The event is fired for every checkbox toggled on the client. A shift
+     * click already selects or deselects the range of rows from the
+     * previously toggled row, see {@link #selectRange(int, int)}, so the
+     * listener is only notified for the clicked row.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public Registration addClientItemToggleListener(
+            ComponentEventListener<ClientItemToggleEvent<T>> listener) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        return ComponentUtil.addListener(getGrid(), ClientItemToggleEvent.class,
+                (ComponentEventListener) listener);
+    }
+
     @Override
     public boolean isSelected(T item) {
-        return getSelectedItems().stream().anyMatch(selectedItem -> Objects
-                .equals(getItemId(selectedItem), getItemId(item)));
+        return item != null && isSelected(getItemId(item), item);
     }
 
     @Override
@@ -342,6 +770,19 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
             // ignore event if the checkBox was meant to be hidden
             return;
         }
+        if (isSymbolicSelectAllApplicable()) {
+            doSymbolicSelectAll(true);
+            return;
+        }
+        if (selectAllTask != null) {
+            // a second click while the background select all runs cancels it
+            cancelSelectAll();
+            return;
+        }
+        if (asyncSelectAll && getGrid().getUI().isPresent()) {
+            startAsyncSelectAll(getGrid().getUI().get());
+            return;
+        }
         Stream<T> allItemsStream;
         DataProvider<T, ?> dataProvider = getGrid().getDataCommunicator()
                 .getDataProvider();
@@ -356,6 +797,63 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
         selectionColumn.setSelectAllCheckboxState(true);
     }
 
+    /**
+     * Sets whether selecting all items of a hierarchical data provider fetches
+     * the hierarchy level by level instead of depth first.
+     * <p>
+     * Depth first fetching calls {@code hasChildren} and
+     * {@code fetchChildren} sequentially for every node. Level by level
+     * fetching skips the {@code hasChildren} calls, and fetches all the
+     * children of a level together: with a single call if the data provider
+     * implements {@link BulkChildrenDataProvider}, or concurrently on the
+     * executor set with {@link #setDescendantFetchExecutor(Executor)}.
+     * <p>
+     * Level by level fetching is always used when the data provider
+     * implements {@link BulkChildrenDataProvider} or an executor is set.
+     * Default is {@code false}.
+     *
+     * @param breadthFirstDescendantFetch
+     *                                    {@code true} to fetch level by level
+     */
+    public void setBreadthFirstDescendantFetch(
+            boolean breadthFirstDescendantFetch) {
+        this.breadthFirstDescendantFetch = breadthFirstDescendantFetch;
+    }
+
+    /**
+     * Returns whether hierarchical select all fetches level by level.
+     *
+     * @return {@code true} if level by level fetching is enabled
+     * @see #setBreadthFirstDescendantFetch(boolean)
+     */
+    public boolean isBreadthFirstDescendantFetch() {
+        return breadthFirstDescendantFetch;
+    }
+
+    /**
+     * Sets the executor used to fetch the children of the nodes of one level
+     * concurrently when selecting all items of a hierarchical data provider.
+     * The data provider is then called from the executor threads, outside of
+     * the session lock, so it must be thread safe.
+     *
+     * @param descendantFetchExecutor
+     *                                the executor to use, or {@code null} to
+     *                                fetch on the calling thread
+     * @see #setBreadthFirstDescendantFetch(boolean)
+     */
+    public void setDescendantFetchExecutor(Executor descendantFetchExecutor) {
+        this.descendantFetchExecutor = descendantFetchExecutor;
+    }
+
+    /**
+     * Returns the executor used to fetch children concurrently.
+     *
+     * @return the executor, or {@code null} if none is set
+     */
+    public Executor getDescendantFetchExecutor() {
+        return descendantFetchExecutor;
+    }
+
     /**
      * Fetch all items from the given hierarchical data provider.
      *
@@ -365,9 +863,69 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
      */
     private Stream<T> fetchAllHierarchical(
             HierarchicalDataProvider<T, ?> dataProvider) {
+        if (breadthFirstDescendantFetch || descendantFetchExecutor != null
+                || dataProvider instanceof BulkChildrenDataProvider) {
+            return fetchAllByLevel(dataProvider);
+        }
         return fetchAllDescendants(null, dataProvider);
     }
 
+    /**
+     * Fetch all items from the given hierarchical data provider one level at
+     * a time.
+     *
+     * @param dataProvider
+     *                     the data provider to fetch from
+     * @return all items in the data provider, level by level
+     */
+    private Stream<T> fetchAllByLevel(
+            HierarchicalDataProvider<T, ?> dataProvider) {
+        List<T> allItems = new ArrayList<>();
+        List<T> level = fetchChildren(null, dataProvider);
+        while (!level.isEmpty()) {
+            allItems.addAll(level);
+            level = fetchNextLevel(level, dataProvider);
+        }
+        return allItems.stream();
+    }
+
+    /**
+     * Fetch the children of all the given parents.
+     *
+     * @param parents
+     *                     the items of the current level
+     * @param dataProvider
+     *                     the data provider to fetch from
+     * @return the items of the next level
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> fetchNextLevel(List<T> parents,
+            HierarchicalDataProvider<T, ?> dataProvider) {
+        if (dataProvider instanceof BulkChildrenDataProvider) {
+            return ((BulkChildrenDataProvider<T>) dataProvider)
+                    .fetchChildrenOfAll(parents).collect(Collectors.toList());
+        }
+        if (descendantFetchExecutor == null) {
+            return parents.stream()
+                    .flatMap(parent -> fetchChildren(parent, dataProvider)
+                            .stream())
+                    .collect(Collectors.toList());
+        }
+        List<CompletableFuture<List<T>>> subtrees = parents.stream()
+                .map(parent -> CompletableFuture.supplyAsync(
+                        () -> fetchChildren(parent, dataProvider),
+                        descendantFetchExecutor))
+                .collect(Collectors.toList());
+        return subtrees.stream().flatMap(subtree -> subtree.join().stream())
+                .collect(Collectors.toList());
+    }
+
+    private List<T> fetchChildren(T parent,
+            HierarchicalDataProvider<T, ?> dataProvider) {
+        return dataProvider.fetchChildren(new HierarchicalQuery<>(null, parent))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Fetch all the descendants of the given parent item from the given data
      * provider.
@@ -399,14 +957,208 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
             // ignore event if the checkBox was meant to be hidden
             return;
         }
-        doUpdateSelection(Collections.emptySet(), getSelectedItems(), true);
+        if (selectAllTask != null) {
+            cancelSelectAll();
+            return;
+        }
+        doDeselectAll(true);
+    }
+
+    /**
+     * Sets whether the select all checkbox fetches the items in the
+     * background instead of inside the request that clicked it.
+     * <p>
+     * Items are fetched in chunks on the executor set with
+     * {@link #setSelectAllExecutor(Executor)}, a new virtual thread by
+     * default. Progress is reported with {@link SelectAllProgressEvent}
+     * through {@link UI#access(com.vaadin.flow.server.Command)}, so server
+     * push or polling must be enabled to see it. Clicking the checkbox again
+     * cancels the operation. Once all items are fetched, they are selected
+     * at once with a single selection event. If fetching fails, the
+     * exception is logged and passed on with the
+     * {@link SelectAllProgressEvent.State#FAILED} event.
+     * <p>
+     * The data provider is called outside of the session lock, so it must be
+     * thread safe. Default is {@code false}.
+     *
+     * @param asyncSelectAll
+     *                       {@code true} to select all in the background
+     */
+    public void setAsyncSelectAll(boolean asyncSelectAll) {
+        this.asyncSelectAll = asyncSelectAll;
+    }
+
+    /**
+     * Returns whether the select all checkbox fetches items in the
+     * background.
+     *
+     * @return {@code true} if select all runs in the background
+     * @see #setAsyncSelectAll(boolean)
+     */
+    public boolean isAsyncSelectAll() {
+        return asyncSelectAll;
+    }
+
+    /**
+     * Sets whether selection changes are sent to the client as a single
+     * update of the {@code selected} flag instead of refreshing every changed
+     * row.
+     * <p>
+     * By default each visible row whose selection changes is refreshed
+     * through the data communicator, which regenerates all of its data. With
+     * the batched refresh, the keys of the changed rows are sent in one array
+     * and only their selection state is updated on the client. Only enable it
+     * if no other data generator, such as a class name generator, depends on
+     * the selection state. Default is {@code false}.
+     *
+     * @param batchedSelectionRefresh
+     *                                {@code true} to send selection changes
+     *                                as a single batched update
+     */
+    public void setBatchedSelectionRefresh(boolean batchedSelectionRefresh) {
+        this.batchedSelectionRefresh = batchedSelectionRefresh;
+    }
+
+    /**
+     * Returns whether selection changes are sent to the client as a single
+     * batched update.
+     *
+     * @return {@code true} if the batched refresh is used
+     * @see #setBatchedSelectionRefresh(boolean)
+     */
+    public boolean isBatchedSelectionRefresh() {
+        return batchedSelectionRefresh;
+    }
+
+    /**
+     * Sets the executor running background select all operations.
+     *
+     * @param selectAllExecutor
+     *                          the executor, or {@code null} to start a new
+     *                          virtual thread for each operation
+     * @see #setAsyncSelectAll(boolean)
+     */
+    public void setSelectAllExecutor(Executor selectAllExecutor) {
+        this.selectAllExecutor = selectAllExecutor;
+    }
+
+    /**
+     * Returns whether a background select all is currently running.
+     *
+     * @return {@code true} if a background select all is running
+     */
+    public boolean isSelectAllRunning() {
+        return selectAllTask != null;
+    }
+
+    /**
+     * Cancels the running background select all, if any. The selection is
+     * left unchanged.
+     */
+    public void cancelSelectAll() {
+        SelectAllTask<T> task = selectAllTask;
+        if (task == null) {
+            return;
+        }
+        task.cancel();
+        selectAllTask = null;
         selectionColumn.setSelectAllCheckboxState(false);
+        fireSelectAllProgress(SelectAllProgressEvent.State.CANCELLED,
+                task.fetchedCount, task.totalCount);
+    }
+
+    /**
+     * State of a background select all, shared with the fetching thread.
+     */
+    private static final class SelectAllTask<T>
+            extends BackgroundTask<List<T>> {
+        private volatile int fetchedCount;
+        private volatile int totalCount = -1;
+
+        private SelectAllTask(UI ui) {
+            super(ui, CustomAbstractGridMultiSelectionModel.class);
+        }
+    }
+
+    private void startAsyncSelectAll(UI ui) {
+        DataProvider<T, ?> dataProvider = getGrid().getDataCommunicator()
+                .getDataProvider();
+        SelectAllTask<T> task = new SelectAllTask<>(ui);
+        selectAllTask = task;
+        selectionColumn.setSelectAllCheckboxState(true);
+        fireSelectAllProgress(SelectAllProgressEvent.State.RUNNING, 0, -1);
+
+        task.start(selectAllExecutor,
+                () -> dataProvider instanceof HierarchicalDataProvider
+                        ? fetchAllInBackground(
+                                (HierarchicalDataProvider<T, ?>) dataProvider,
+                                task)
+                        : fetchAllInBackground(dataProvider, task),
+                items -> {
+                    selectAllTask = null;
+                    doUpdateSelection(new LinkedHashSet<>(items),
+                            Collections.emptySet(), true);
+                    selectionColumn.setSelectAllCheckboxState(true);
+                    fireSelectAllProgress(
+                            SelectAllProgressEvent.State.COMPLETED,
+                            task.fetchedCount, task.totalCount);
+                }, failure -> {
+                    selectAllTask = null;
+                    selectionColumn.setSelectAllCheckboxState(false);
+                    ComponentUtil.fireEvent(getGrid(),
+                            new SelectAllProgressEvent<>(getGrid(),
+                                    SelectAllProgressEvent.State.FAILED,
+                                    task.fetchedCount, task.totalCount,
+                                    failure));
+                });
+    }
+
+    private List<T> fetchAllInBackground(DataProvider<T, ?> dataProvider,
+            SelectAllTask<T> task) {
+        task.totalCount = dataProvider.size(new Query<>());
+        List<T> items = new ArrayList<>();
+        List<T> page;
+        do {
+            page = dataProvider
+                    .fetch(new Query<>(items.size(), FETCH_PAGE_SIZE, null,
+                            null, null))
+                    .collect(Collectors.toList());
+            items.addAll(page);
+            reportProgress(task, items.size());
+        } while (page.size() == FETCH_PAGE_SIZE && !task.isEnded());
+        return items;
+    }
+
+    private List<T> fetchAllInBackground(
+            HierarchicalDataProvider<T, ?> dataProvider,
+            SelectAllTask<T> task) {
+        List<T> items = new ArrayList<>();
+        List<T> level = fetchChildren(null, dataProvider);
+        while (!level.isEmpty() && !task.isEnded()) {
+            items.addAll(level);
+            reportProgress(task, items.size());
+            level = fetchNextLevel(level, dataProvider);
+        }
+        return items;
+    }
+
+    private void reportProgress(SelectAllTask<T> task, int fetchedCount) {
+        task.fetchedCount = fetchedCount;
+        task.access(() -> fireSelectAllProgress(
+                SelectAllProgressEvent.State.RUNNING, fetchedCount,
+                task.totalCount));
+    }
+
+    private void fireSelectAllProgress(SelectAllProgressEvent.State state,
+            int fetchedCount, int totalCount) {
+        ComponentUtil.fireEvent(getGrid(), new SelectAllProgressEvent<>(
+                getGrid(), state, fetchedCount, totalCount));
     }
 
     private void doUpdateSelection(Set<T> addedItems, Set<T> removedItems,
             boolean userOriginated) {
         Set<T> filteredAddedItems = addedItems.stream()
-                .filter(item -> ((EnhancedGrid) getGrid()).getSelectionPredicate().test(item))
+                .filter(item -> ((EnhancedGrid<T>) getGrid()).isSelectable(item))
                 .collect(Collectors.toSet());
         Map<Object, T> addedItemsMap = mapItemsById(filteredAddedItems);
         Map<Object, T> removedItemsMap = mapItemsById(removedItems);
@@ -421,37 +1173,425 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
     private void doUpdateSelection(Map<Object, T> addedItems,
             Map<Object, T> removedItems, boolean userOriginated) {
 
-        Map<Object, T> selectedMap = mapItemsById(selected);
-        if (selectedMap.keySet().containsAll(addedItems.keySet()) && Collections
-                .disjoint(selectedMap.keySet(), removedItems.keySet())) {
+        if (allSelected) {
+            if (addedItems.entrySet().stream()
+                    .allMatch(e -> isSelected(e.getKey(), e.getValue()))
+                    && removedItems.entrySet().stream().noneMatch(
+                            e -> isSelected(e.getKey(), e.getValue()))) {
+                return;
+            }
+        } else if (addedItems.keySet().stream().allMatch(selected::contains)
+                && removedItems.keySet().stream()
+                        .noneMatch(selected::contains)) {
             return;
         }
-        Set<T> oldSelection = new LinkedHashSet<>(selected);
-        removedItems.keySet().forEach(selectedMap::remove);
-        selectedMap.putAll(addedItems);
-        selected.clear();
-        selected.addAll(selectedMap.values());
+        Map<Object, T> actuallyRemoved = new LinkedHashMap<>();
+        removedItems.forEach((id, item) -> {
+            if (removeFromSelection(id, item)) {
+                actuallyRemoved.put(id, item);
+            }
+        });
+        Map<Object, T> actuallyAdded = new LinkedHashMap<>();
+        addedItems.forEach((id, item) -> {
+            if (addToSelection(id, item)) {
+                actuallyAdded.put(id, item);
+            }
+        });
 
-        sendSelectionUpdate(new LinkedHashSet<>(addedItems.values()),
-                getGrid()::doClientSideSelection);
-        sendSelectionUpdate(new LinkedHashSet<>(removedItems.values()),
-                getGrid()::doClientSideDeselection);
+        sendSelectionUpdate(new LinkedHashSet<>(addedItems.values()), true);
+        sendSelectionUpdate(new LinkedHashSet<>(removedItems.values()), false);
 
-        fireSelectionEvent(
-                new MultiSelectionEvent<>(getGrid(), getGrid().asMultiSelect(),
-                        oldSelection, userOriginated));
+        fireSelectionChange(actuallyAdded, actuallyRemoved, null,
+                userOriginated);
         if (!removedItems.isEmpty()) {
             selectionColumn.setSelectAllCheckboxState(false);
         }
     }
 
+    private boolean isSelected(Object id, T item) {
+        if (selected.contains(id)) {
+            return true;
+        }
+        return allSelected && !deselectedFromAll.containsKey(id)
+                && matchesSelectAll(item);
+    }
+
+    private boolean addToSelection(Object id, T item) {
+        if (allSelected && matchesSelectAll(item)) {
+            return deselectedFromAll.remove(id) != null;
+        }
+        return selected.add(id, item);
+    }
+
+    private boolean removeFromSelection(Object id, T item) {
+        boolean removed = selected.remove(id);
+        if (allSelected && matchesSelectAll(item)) {
+            return deselectedFromAll.putIfAbsent(id, item) == null;
+        }
+        return removed;
+    }
+
+    private boolean matchesSelectAll(T item) {
+        return (allSelectedFilter == null || allSelectedFilter.test(item))
+                && ((EnhancedGrid<T>) getGrid()).isSelectable(item);
+    }
+
+    private boolean isSymbolicSelectAllApplicable() {
+        return symbolicSelectAll && !(getGrid().getDataCommunicator()
+                .getDataProvider() instanceof HierarchicalDataProvider);
+    }
+
+    /**
+     * Selects all items matching the active filter without fetching them. If
+     * a symbolic select all is already active, the new filter is added to the
+     * existing definition.
+     *
+     * @param userOriginated
+     *                       {@code true} if triggered from the client
+     */
+    private void doSymbolicSelectAll(boolean userOriginated) {
+        Set<T> oldSelection = snapshotSelection();
+        EnhancedGrid<T> grid = (EnhancedGrid<T>) getGrid();
+        SerializablePredicate<T> filter = grid.getFilterPredicate();
+        if (allSelected) {
+            SerializablePredicate<T> previousFilter = allSelectedFilter;
+            deselectedFromAll.values()
+                    .removeIf(item -> filter == null || filter.test(item));
+            allSelectedFilter = previousFilter == null || filter == null ? null
+                    : item -> previousFilter.test(item) || filter.test(item);
+        } else {
+            allSelected = true;
+            allSelectedFilter = filter;
+            deselectedFromAll.clear();
+            allSelectedFilters.clear();
+        }
+        if (allSelectedFilter == null) {
+            allSelectedFilters.clear();
+        } else if (grid.getAppliedFilter() != null) {
+            allSelectedFilters.add(grid.getAppliedFilter());
+        }
+        selected.stream().filter(this::matchesSelectAll).map(this::getItemId)
+                .collect(Collectors.toList()).forEach(selected::remove);
+
+        getGrid().getDataCommunicator().reset();
+        fireSelectionChange(Collections.emptyMap(), Collections.emptyMap(),
+                oldSelection, userOriginated);
+        selectionColumn.setSelectAllCheckboxState(true);
+    }
+
+    private void doClearSymbolicSelection(boolean userOriginated) {
+        Set<T> oldSelection = snapshotSelection();
+        allSelected = false;
+        allSelectedFilter = null;
+        allSelectedFilters.clear();
+        deselectedFromAll.clear();
+        selected.clear();
+
+        getGrid().getDataCommunicator().reset();
+        fireSelectionChange(Collections.emptyMap(), Collections.emptyMap(),
+                oldSelection, userOriginated);
+    }
+
+    /**
+     * Fires the selection events for a change of the selection. The
+     * {@link MultiSelectionEvent} is only created when it has listeners, and
+     * its old selection is derived from the delta only when read. A
+     * {@link SelectionDeltaEvent} carrying only the delta is always fired.
+     *
+     * @param added
+     *                       the items added to the selection, by id
+     * @param removed
+     *                       the items removed from the selection, by id
+     * @param oldSnapshot
+     *                       the selection before a bulk change, or
+     *                       {@code null} if it can be derived from the delta
+     * @param userOriginated
+     *                       {@code true} if the change originated from the
+     *                       client
+     */
+    private void fireSelectionChange(Map<Object, T> added,
+            Map<Object, T> removed, Set<T> oldSnapshot,
+            boolean userOriginated) {
+        selectionVersion++;
+        if (ComponentUtil.hasEventListener(getGrid(),
+                MultiSelectionEvent.class)) {
+            if (oldSnapshot != null) {
+                fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
+                        getGrid().asMultiSelect(), oldSnapshot,
+                        userOriginated));
+            } else {
+                DeferredSet<T> oldSelection = new DeferredSet<>();
+                MultiSelectionEvent<Grid<T>, T> event = new MultiSelectionEvent<>(
+                        getGrid(), getGrid().asMultiSelect(), oldSelection,
+                        userOriginated);
+                oldSelection.setSupplier(() -> deriveOldSelection(
+                        event.getValue(), added, removed));
+                fireSelectionEvent(event);
+            }
+        }
+        ComponentUtil.fireEvent(getGrid(),
+                new SelectionDeltaEvent<>(getGrid(), this, added, removed,
+                        oldSnapshot, selectionVersion, userOriginated));
+    }
+
+    /**
+     * Computes the selection as it was before a change.
+     *
+     * @param newSelection
+     *                     the selection after the change
+     * @param added
+     *                     the items added by the change, by id
+     * @param removed
+     *                     the items removed by the change, by id
+     * @return the selection before the change
+     */
+    Set<T> deriveOldSelection(Set<T> newSelection, Map<Object, T> added,
+            Map<Object, T> removed) {
+        Set<T> oldSelection = new LinkedHashSet<>();
+        for (T item : newSelection) {
+            if (!added.containsKey(getItemId(item))) {
+                oldSelection.add(item);
+            }
+        }
+        oldSelection.addAll(removed.values());
+        return oldSelection;
+    }
+
+    /**
+     * Returns a counter incremented on every change of the selection.
+     *
+     * @return the current selection version
+     */
+    long getSelectionVersion() {
+        return selectionVersion;
+    }
+
+    /**
+     * Returns a copy of the current selection. While a symbolic select all is
+     * active the copy is lazy and only fetches items when iterated.
+     *
+     * @return a snapshot of the current selection
+     */
+    private Set<T> snapshotSelection() {
+        if (allSelected) {
+            // capture the definition by value, the fields are replaced or
+            // cleared by the change the snapshot is taken for
+            SerializablePredicate<T> filter = allSelectedFilter;
+            EnhancedGrid<T> grid = (EnhancedGrid<T>) getGrid();
+            SerializablePredicate<T> matcher = item -> (filter == null
+                    || filter.test(item)) && grid.isSelectable(item);
+            return new InvertedSelectionSet<>(selected, deselectedFromAll,
+                    matcher, this::getItemId, allItemsSupplier(grid));
+        }
+        if (!(selected instanceof ItemSelectionStore)) {
+            // ids only, resolve the items when the snapshot is read
+            return new InvertedSelectionSet<>(selected,
+                    Collections.emptyMap(), null, this::getItemId, null);
+        }
+        return selected.stream()
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Returns a supplier streaming the candidates of the select all
+     * definition, the items are then tested against it one by one. In-memory
+     * items are read directly, whatever the grid filter is when the stream is
+     * read. Other data providers are queried lazily page by page with the
+     * filters captured at select all, in the order the grid fetches its rows.
+     *
+     * @param grid
+     *             the grid, with the data provider used when the supplier is
+     *             created
+     * @return a supplier of lazy streams of the candidate items
+     */
+    @SuppressWarnings("unchecked")
+    private SerializableSupplier<Stream<T>> allItemsSupplier(
+            EnhancedGrid<T> grid) {
+        DataCommunicator<T> dataCommunicator = grid.getDataCommunicator();
+        DataProvider<T, ?> dataProvider = dataCommunicator.getDataProvider();
+        if (dataProvider instanceof ListDataProvider) {
+            // the items are not filtered, unlike the fetched ones
+            Collection<T> items = ((ListDataProvider<T>) dataProvider)
+                    .getItems();
+            return items::stream;
+        }
+        // an unordered query could skip or repeat rows between pages
+        List<QuerySortOrder> sortOrders = new ArrayList<>(
+                dataCommunicator.getBackEndSorting());
+        SerializableComparator<T> inMemorySorting = dataCommunicator
+                .getInMemorySorting();
+        List<Filter<T>> filters = allSelectedFilter == null
+                ? Collections.singletonList(null)
+                : new ArrayList<>(allSelectedFilters);
+        if (selectAllDataProvider != null) {
+            DataProvider<T, Filter<T>> backend = selectAllDataProvider;
+            return () -> IntStream.range(0, filters.size()).boxed()
+                    .flatMap(index -> fetchAllInPages(backend,
+                            filters.get(index), sortOrders, inMemorySorting)
+                            // an item matching several filters is fetched
+                            // once, with the first one
+                            .filter(item -> filters.subList(0, index).stream()
+                                    .noneMatch(filter -> matches(filter,
+                                            item))));
+        }
+        return () -> {
+            if (!isInForce(filters, grid.getAppliedFilter())) {
+                throw new IllegalStateException(
+                        "The items selected under another filter cannot be fetched from the data provider of the grid, set a select all data provider.");
+            }
+            return fetchAllInPages((DataProvider<T, Object>) dataProvider,
+                    null, sortOrders, inMemorySorting);
+        };
+    }
+
+    private static <T> boolean matches(Filter<T> filter, T item) {
+        return filter == null || filter.getFilterPredicate() == null
+                || filter.getFilterPredicate().test(item);
+    }
+
+    /**
+     * Returns whether the data provider of the grid, configured with the
+     * applied filter, returns all the items matching the select all filters.
+     */
+    private static <T> boolean isInForce(List<Filter<T>> filters,
+            Filter<T> appliedFilter) {
+        boolean unfiltered = appliedFilter == null
+                || appliedFilter.getFilterPredicate() == null;
+        if (filters.size() == 1 && filters.get(0) == null) {
+            return unfiltered;
+        }
+        return filters.size() == 1 && filters.get(0) == appliedFilter;
+    }
+
+    /**
+     * Streams the items of a data provider matching a filter, queried lazily
+     * page by page.
+     *
+     * @param dataProvider
+     *                        the data provider to query
+     * @param filter
+     *                        the filter of the queries
+     * @param sortOrders
+     *                        the backend sort orders of the queries
+     * @param inMemorySorting
+     *                        the in-memory sorting of the queries, may be
+     *                        {@code null}
+     * @return a lazy stream of the items
+     */
+    private static <T, F> Stream<T> fetchAllInPages(
+            DataProvider<T, F> dataProvider, F filter,
+            List<QuerySortOrder> sortOrders,
+            SerializableComparator<T> inMemorySorting) {
+        return IntStream.iterate(0, offset -> offset + FETCH_PAGE_SIZE)
+                .mapToObj(offset -> dataProvider
+                        .fetch(new Query<>(offset, FETCH_PAGE_SIZE, sortOrders,
+                                inMemorySorting, filter))
+                        .collect(Collectors.toList()))
+                .takeWhile(page -> !page.isEmpty())
+                .flatMap(List::stream);
+    }
+
+    private void clientRangeToggle(int fromIndex, int toIndex,
+            boolean select, boolean dragged) {
+        int rowCount = getFlatRowCount();
+        if (fromIndex >= rowCount && toIndex >= rowCount) {
+            return;
+        }
+        fromIndex = Math.min(fromIndex, rowCount - 1);
+        toIndex = Math.min(toIndex, rowCount - 1);
+        // keep the clicked row, the end of the range
+        if (toIndex >= fromIndex) {
+            fromIndex = Math.max(fromIndex, toIndex - maxClientRangeSize + 1);
+        } else {
+            fromIndex = (int) Math.min(fromIndex,
+                    (long) toIndex + maxClientRangeSize - 1);
+        }
+        List<T> items = fetchRange(fromIndex, toIndex);
+        if (items.isEmpty()) {
+            return;
+        }
+        if (!dragged) {
+            // the clicked row is the end of the range
+            T toggledItem = toIndex >= fromIndex ? items.get(items.size() - 1)
+                    : items.get(0);
+            fireClientItemToggle(toggledItem, select, true);
+        }
+        updateRange(items, select, true);
+    }
+
+    private void updateRange(List<T> items, boolean select,
+            boolean userOriginated) {
+        Set<T> rangeItems = new LinkedHashSet<>(items);
+        if (select) {
+            doUpdateSelection(rangeItems, Collections.emptySet(),
+                    userOriginated);
+        } else {
+            doUpdateSelection(Collections.emptySet(), rangeItems,
+                    userOriginated);
+        }
+    }
+
+    /**
+     * Returns the number of rows shown by the grid, counting the visible
+     * descendants of expanded items in a tree.
+     */
+    private int getFlatRowCount() {
+        DataCommunicator<T> dataCommunicator = getGrid().getDataCommunicator();
+        DataProvider<T, ?> dataProvider = dataCommunicator.getDataProvider();
+        // flat indexes of a tree depend on the expanded items, which only
+        // the communicator knows about
+        return dataProvider instanceof HierarchicalDataProvider
+                ? dataCommunicator.getItemCount()
+                : getRowCount(dataProvider);
+    }
+
+    /**
+     * Fetches the rows between two flat indexes, both included, in the order
+     * they are displayed. Indexes past the last row are ignored, and the rows
+     * are fetched page by page.
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> fetchRange(int fromIndex, int toIndex) {
+        int offset = Math.max(0, Math.min(fromIndex, toIndex));
+        int last = Math.min(Math.max(fromIndex, toIndex),
+                getFlatRowCount() - 1);
+        List<T> items = new ArrayList<>();
+        if (last < offset) {
+            return items;
+        }
+        DataCommunicator<T> dataCommunicator = getGrid().getDataCommunicator();
+        DataProvider<T, ?> dataProvider = dataCommunicator.getDataProvider();
+        if (dataProvider instanceof HierarchicalDataProvider) {
+            return IntStream.rangeClosed(offset, last)
+                    .mapToObj(dataCommunicator::getItem)
+                    .filter(Objects::nonNull).collect(Collectors.toList());
+        }
+        while (offset <= last) {
+            int limit = Math.min(FETCH_PAGE_SIZE, last - offset + 1);
+            List<T> page = ((DataProvider<T, Object>) dataProvider)
+                    .fetch(dataCommunicator.buildQuery(offset, limit))
+                    .collect(Collectors.toList());
+            items.addAll(page);
+            if (page.size() < limit) {
+                break;
+            }
+            offset += limit;
+        }
+        return items;
+    }
+
+    private void fireClientItemToggle(T item, boolean isSelected,
+            boolean shiftKey) {
+        ComponentUtil.fireEvent(getGrid(), new ClientItemToggleEvent<>(
+                getGrid(), item, isSelected, shiftKey));
+    }
+
     private Map<Object, T> mapItemsById(Set<T> items) {
         return items.stream().collect(LinkedHashMap::new,
                 (map, item) -> map.put(this.getItemId(item), item), Map::putAll);
     }
 
-    private void sendSelectionUpdate(Set<T> updatedItems,
-            Consumer<Set<T>> clientSideUpdater) {
+    private void sendSelectionUpdate(Set<T> updatedItems, boolean selected) {
         // Avoid sending updates for the items that the client doesn't have.
         // This is important for the performance of e.g. selectAll.
         Set<T> activeItems = updatedItems.stream()
@@ -460,11 +1600,37 @@ public abstract class CustomAbstractGridMultiSelectionModel<T>
             return;
         }
 
+        if (batchedSelectionRefresh) {
+            sendBatchedSelectionUpdate(activeItems, selected);
+            return;
+        }
         activeItems.forEach(getGrid().getDataCommunicator()::refresh);
-        clientSideUpdater.accept(activeItems);
+        if (selected) {
+            getGrid().doClientSideSelection(activeItems);
+        } else {
+            getGrid().doClientSideDeselection(activeItems);
+        }
+    }
+
+    private void sendBatchedSelectionUpdate(Set<T> activeItems,
+            boolean selected) {
+        // The connector matches the items by key and updates its selected
+        // items, the cached row data is left untouched.
+        ArrayNode updates = JacksonUtils.createArrayNode();
+        for (T item : activeItems) {
+            ObjectNode update = JacksonUtils.createObjectNode();
+            update.put("key",
+                    getGrid().getDataCommunicator().getKeyMapper().key(item));
+            update.put("selected", selected);
+            updates.add(update);
+        }
+        getGrid().getElement().callJsFunction(
+                selected ? "$connector.doSelection"
+                        : "$connector.doDeselection",
+                updates, false);
     }
 
-    private Object getItemId(T item) {
+    Object getItemId(T item) {
         return getGrid().getDataCommunicator().getDataProvider().getId(item);
     }
 }
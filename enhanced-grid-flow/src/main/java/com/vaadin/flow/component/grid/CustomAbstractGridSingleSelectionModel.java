@@ -194,7 +194,7 @@ public abstract class CustomAbstractGridSingleSelectionModel<T> extends
             SelectionEvent<Grid<T>, T> event);
 
     private void doSelect(T item, boolean userOriginated) {
-        if (item == null || ((EnhancedGrid) getGrid()).getSelectionPredicate().test(item)) {
+        if (item == null || ((EnhancedGrid<T>) getGrid()).isSelectable(item)) {
             T oldValue = selectedItem;
             selectedItem = item;
             fireSelectionEvent(new SingleSelectionEvent<>(getGrid(),
@@ -20,6 +20,9 @@ package com.vaadin.flow.component.grid;
  * #L%
  */
 
+import java.io.Serializable;
+
+import com.vaadin.flow.component.ClientCallable;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.function.SerializableRunnable;
@@ -31,6 +34,7 @@ import com.vaadin.flow.function.SerializableRunnable;
 @JsModule("./src/custom-grid-flow-selection-column.js")
 public class CustomGridSelectionColumn extends GridSelectionColumn {
 
+    private final RangeToggleCallback rangeToggleCallback;
 
     /**
      * Constructs a new grid selection column configured to use the given
@@ -45,7 +49,69 @@ public class CustomGridSelectionColumn extends GridSelectionColumn {
      */
     public CustomGridSelectionColumn(SerializableRunnable selectAllCallback,
                                      SerializableRunnable deselectAllCallback) {
+        this(selectAllCallback, deselectAllCallback, null);
+    }
+
+    /**
+     * Constructs a new grid selection column configured to use the given
+     * callbacks whenever the select all checkbox is toggled or a range of rows
+     * is toggled with a shift click or a drag on the client side.
+     *
+     * @param selectAllCallback
+     *            the runnable to run when the select all checkbox has been
+     *            checked
+     * @param deselectAllCallback
+     *            the runnable to run when the select all checkbox has been
+     *            unchecked
+     * @param rangeToggleCallback
+     *            the callback to run when a range of rows has been toggled,
+     *            or {@code null} to ignore range toggles
+     */
+    public CustomGridSelectionColumn(SerializableRunnable selectAllCallback,
+                                     SerializableRunnable deselectAllCallback,
+                                     RangeToggleCallback rangeToggleCallback) {
         super(selectAllCallback,deselectAllCallback);
+        this.rangeToggleCallback = rangeToggleCallback;
+    }
+
+    @ClientCallable
+    private void toggleRange(int fromIndex, int toIndex, boolean select,
+            boolean dragged) {
+        // indexes come from the client, a tampered or stale one is ignored
+        if (fromIndex < 0 || toIndex < 0) {
+            return;
+        }
+        if (rangeToggleCallback != null) {
+            rangeToggleCallback.toggleRange(fromIndex, toIndex, select,
+                    dragged);
+        }
+    }
+
+    /**
+     * Callback for a range of rows toggled on the client side.
+     */
+    @FunctionalInterface
+    public interface RangeToggleCallback extends Serializable {
+
+        /**
+         * Called when the rows between two flat indexes, both included, have
+         * been toggled on the client side. The indexes are not negative, but
+         * are otherwise sent by the client and must be checked against the
+         * rows of the grid.
+         *
+         * @param fromIndex
+         *            the index of the row the range starts from
+         * @param toIndex
+         *            the index of the row the range ends at
+         * @param select
+         *            {@code true} if the rows should be selected,
+         *            {@code false} if they should be deselected
+         * @param dragged
+         *            {@code true} if the range was covered by a drag
+         *            gesture, {@code false} for a shift click
+         */
+        void toggleRange(int fromIndex, int toIndex, boolean select,
+                boolean dragged);
     }
 
 }
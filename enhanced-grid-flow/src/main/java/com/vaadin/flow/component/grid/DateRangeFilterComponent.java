@@ -0,0 +1,104 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.vaadin.flow.component.AbstractCompositeField;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.html.Div;
+
+/**
+ * Filter component for date columns, editing a {@link DateRangeFilterDto}
+ * with a start and an end date picker.
+ * <p>
+ * The labels are translated with the {@code date-range-filter.*} keys of the
+ * application's {@link com.vaadin.flow.i18n.I18NProvider}.
+ */
+public class DateRangeFilterComponent
+		extends AbstractCompositeField<Div, DateRangeFilterComponent, DateRangeFilterDto> {
+
+	private static final String FROM_KEY = "date-range-filter.from";
+
+	private static final String TO_KEY = "date-range-filter.to";
+
+	private final DatePicker fromPicker = new DatePicker();
+
+	private final DatePicker toPicker = new DatePicker();
+
+	private boolean updatingPresentation;
+
+	/**
+	 * Creates an empty date range filter component.
+	 */
+	public DateRangeFilterComponent() {
+		this(new DateRangeFilterDto());
+	}
+
+	/**
+	 * Creates a date range filter component with an initial filter.
+	 * 
+	 * @param initialValue the initial filter
+	 */
+	public DateRangeFilterComponent(DateRangeFilterDto initialValue) {
+		super(new DateRangeFilterDto());
+		fromPicker.setLabel(getTranslation(FROM_KEY));
+		toPicker.setLabel(getTranslation(TO_KEY));
+		fromPicker.addValueChangeListener(e -> updateValue(e.isFromClient()));
+		toPicker.addValueChangeListener(e -> updateValue(e.isFromClient()));
+		getContent().add(fromPicker, toPicker);
+		setValue(initialValue);
+	}
+
+	private void updateValue(boolean fromClient) {
+		if (!updatingPresentation) {
+			setModelValue(new DateRangeFilterDto(fromPicker.getValue(), toPicker.getValue()), fromClient);
+		}
+	}
+
+	@Override
+	protected void setPresentationValue(DateRangeFilterDto value) {
+		DateRangeFilterDto dto = value == null ? getEmptyValue() : value;
+		updatingPresentation = true;
+		try {
+			fromPicker.setValue(dto.getFrom());
+			toPicker.setValue(dto.getTo());
+		} finally {
+			updatingPresentation = false;
+		}
+	}
+
+	/**
+	 * Returns the picker editing the start date.
+	 * 
+	 * @return the start date picker
+	 */
+	public DatePicker getFromPicker() {
+		return fromPicker;
+	}
+
+	/**
+	 * Returns the picker editing the end date.
+	 * 
+	 * @return the end date picker
+	 */
+	public DatePicker getToPicker() {
+		return toPicker;
+	}
+}
@@ -0,0 +1,127 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Immutable filter keeping the date column values between an inclusive start
+ * and end date, see {@link DateRangeFilterComponent}. Either bound may be
+ * missing.
+ */
+public class DateRangeFilterDto implements FilterFieldDto<LocalDate>, Serializable {
+
+	private final LocalDate from;
+
+	private final LocalDate to;
+
+	/**
+	 * Creates an empty filter.
+	 */
+	public DateRangeFilterDto() {
+		this(null, null);
+	}
+
+	/**
+	 * Creates a filter.
+	 * 
+	 * @param from the inclusive start date, null for no start
+	 * @param to   the inclusive end date, null for no end
+	 */
+	public DateRangeFilterDto(LocalDate from, LocalDate to) {
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Returns the inclusive start date.
+	 * 
+	 * @return the start date, or null if there is none
+	 */
+	public LocalDate getFrom() {
+		return from;
+	}
+
+	/**
+	 * Returns the inclusive end date.
+	 * 
+	 * @return the end date, or null if there is none
+	 */
+	public LocalDate getTo() {
+		return to;
+	}
+
+	@Override
+	public Predicate<LocalDate> getFilterPredicate() {
+		if (isEmpty()) {
+			return value -> true;
+		}
+		LocalDate start = from;
+		LocalDate end = to;
+		return value -> value != null && (start == null || !value.isBefore(start))
+				&& (end == null || !value.isAfter(end));
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return from == null && to == null;
+	}
+
+	@Override
+	public FilterCondition getFilterCondition() {
+		return isEmpty() ? null : FilterCondition.between(from, true, to, true);
+	}
+
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+	@Override
+	public boolean isRefinementOf(FilterFieldDto<LocalDate> previous) {
+		if (!(previous instanceof DateRangeFilterDto)) {
+			return false;
+		}
+		DateRangeFilterDto other = (DateRangeFilterDto) previous;
+		return (other.from == null || from != null && !from.isBefore(other.from))
+				&& (other.to == null || to != null && !to.isAfter(other.to));
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(from, to);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof DateRangeFilterDto)) {
+			return false;
+		}
+		DateRangeFilterDto other = (DateRangeFilterDto) obj;
+		return Objects.equals(from, other.from) && Objects.equals(to, other.to);
+	}
+}
@@ -0,0 +1,73 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.vaadin.flow.function.SerializableSupplier;
+
+/**
+ * Read-only set whose content is computed by a supplier on first access.
+ *
+ * @param <T> the type of the elements
+ */
+class DeferredSet<T> extends AbstractSet<T> implements Serializable {
+
+    private SerializableSupplier<Set<T>> supplier;
+    private Set<T> delegate;
+
+    /**
+     * Sets the supplier computing the content of this set. Must be called
+     * before the set is accessed.
+     *
+     * @param supplier
+     *                 the supplier of the content
+     */
+    void setSupplier(SerializableSupplier<Set<T>> supplier) {
+        this.supplier = supplier;
+    }
+
+    private Set<T> delegate() {
+        if (delegate == null) {
+            delegate = Collections.unmodifiableSet(supplier.get());
+        }
+        return delegate;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return delegate().iterator();
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate().contains(o);
+    }
+}
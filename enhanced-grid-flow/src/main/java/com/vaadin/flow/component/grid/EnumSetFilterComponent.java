@@ -0,0 +1,91 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.EnumSet;
+
+import com.vaadin.flow.component.AbstractCompositeField;
+import com.vaadin.flow.component.checkbox.CheckboxGroup;
+import com.vaadin.flow.component.html.Div;
+
+/**
+ * Filter component for enum columns, editing an {@link EnumSetFilterDto} with
+ * one checkbox per constant. The constant names are used as labels, see
+ * {@link #getCheckboxGroup()} to change them.
+ *
+ * @param <E> the enum type of the column values
+ */
+public class EnumSetFilterComponent<E extends Enum<E>>
+		extends AbstractCompositeField<Div, EnumSetFilterComponent<E>, EnumSetFilterDto<E>> {
+
+	private final Class<E> enumType;
+
+	private final CheckboxGroup<E> checkboxGroup = new CheckboxGroup<>();
+
+	private boolean updatingPresentation;
+
+	/**
+	 * Creates an empty enum set filter component.
+	 * 
+	 * @param enumType the enum type of the column values, not null
+	 */
+	public EnumSetFilterComponent(Class<E> enumType) {
+		this(new EnumSetFilterDto<>(enumType));
+	}
+
+	/**
+	 * Creates an enum set filter component with an initial filter.
+	 * 
+	 * @param initialValue the initial filter, not null
+	 */
+	public EnumSetFilterComponent(EnumSetFilterDto<E> initialValue) {
+		super(new EnumSetFilterDto<>(initialValue.getEnumType()));
+		this.enumType = initialValue.getEnumType();
+		checkboxGroup.setItems(EnumSet.allOf(enumType));
+		checkboxGroup.addValueChangeListener(e -> {
+			if (!updatingPresentation) {
+				setModelValue(new EnumSetFilterDto<>(enumType, e.getValue()), e.isFromClient());
+			}
+		});
+		getContent().add(checkboxGroup);
+		setValue(initialValue);
+	}
+
+	@Override
+	protected void setPresentationValue(EnumSetFilterDto<E> value) {
+		EnumSetFilterDto<E> dto = value == null ? getEmptyValue() : value;
+		updatingPresentation = true;
+		try {
+			checkboxGroup.setValue(dto.getValues());
+		} finally {
+			updatingPresentation = false;
+		}
+	}
+
+	/**
+	 * Returns the checkbox group listing the constants.
+	 * 
+	 * @return the checkbox group
+	 */
+	public CheckboxGroup<E> getCheckboxGroup() {
+		return checkboxGroup;
+	}
+}
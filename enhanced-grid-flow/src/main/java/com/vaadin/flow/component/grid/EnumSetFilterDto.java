@@ -0,0 +1,132 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable filter keeping the enum column values that are part of a set of
+ * constants, see {@link EnumSetFilterComponent}. An empty set does not
+ * filter.
+ * <p>
+ * The constants are kept in an {@link EnumSet}, so the predicate is a single
+ * bit test.
+ *
+ * @param <E> the enum type of the column values
+ */
+public class EnumSetFilterDto<E extends Enum<E>> implements FilterFieldDto<E>, Serializable {
+
+	private final Class<E> enumType;
+
+	private final EnumSet<E> values;
+
+	/**
+	 * Creates an empty filter.
+	 * 
+	 * @param enumType the enum type of the column values, not null
+	 */
+	public EnumSetFilterDto(Class<E> enumType) {
+		this(enumType, Collections.emptySet());
+	}
+
+	/**
+	 * Creates a filter.
+	 * 
+	 * @param enumType the enum type of the column values, not null
+	 * @param values   the constants to keep, not null
+	 */
+	public EnumSetFilterDto(Class<E> enumType, Collection<E> values) {
+		this.enumType = Objects.requireNonNull(enumType, "enum type cannot be null");
+		this.values = EnumSet.noneOf(enumType);
+		this.values.addAll(values);
+	}
+
+	/**
+	 * Returns the enum type of the column values.
+	 * 
+	 * @return the enum type
+	 */
+	public Class<E> getEnumType() {
+		return enumType;
+	}
+
+	/**
+	 * Returns the constants to keep.
+	 * 
+	 * @return the constants, empty if the filter is empty
+	 */
+	public Set<E> getValues() {
+		return Collections.unmodifiableSet(values);
+	}
+
+	@Override
+	public Predicate<E> getFilterPredicate() {
+		if (isEmpty()) {
+			return value -> true;
+		}
+		EnumSet<E> kept = EnumSet.copyOf(values);
+		return kept::contains;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+
+	@Override
+	public FilterCondition getFilterCondition() {
+		return isEmpty() ? null : FilterCondition.in(values);
+	}
+
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+	@Override
+	public boolean isRefinementOf(FilterFieldDto<E> previous) {
+		return previous instanceof EnumSetFilterDto
+				&& ((EnumSetFilterDto<?>) previous).values.containsAll(values);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(enumType, values);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof EnumSetFilterDto)) {
+			return false;
+		}
+		EnumSetFilterDto<?> other = (EnumSetFilterDto<?>) obj;
+		return enumType.equals(other.enumType) && values.equals(other.values);
+	}
+}
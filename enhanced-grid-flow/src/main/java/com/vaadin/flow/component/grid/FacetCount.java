@@ -0,0 +1,116 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A distinct value of a column with the number of items having it, among the
+ * items matching the filters of the other columns.
+ *
+ * @see com.vaadin.componentfactory.enhancedgrid.EnhancedGrid#getFacets(com.vaadin.componentfactory.enhancedgrid.EnhancedColumn)
+ */
+public class FacetCount implements Serializable {
+
+    private final Object value;
+    private final long count;
+    private final boolean approximate;
+
+    /**
+     * Creates a new exact facet count.
+     *
+     * @param value
+     *              the column value, may be {@code null}
+     * @param count
+     *              the number of items having the value
+     */
+    public FacetCount(Object value, long count) {
+        this(value, count, false);
+    }
+
+    /**
+     * Creates a new facet count.
+     *
+     * @param value
+     *                    the column value, may be {@code null}
+     * @param count
+     *                    the number of items having the value
+     * @param approximate
+     *                    {@code true} if the count is estimated
+     */
+    public FacetCount(Object value, long count, boolean approximate) {
+        this.value = value;
+        this.count = count;
+        this.approximate = approximate;
+    }
+
+    /**
+     * Returns the column value.
+     *
+     * @return the value, may be {@code null}
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the number of items having the value.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns whether the count is estimated, for example from a sample of
+     * the items, rather than exact.
+     *
+     * @return {@code true} if the count is approximate
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, count, approximate);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FacetCount)) {
+            return false;
+        }
+        FacetCount other = (FacetCount) obj;
+        return Objects.equals(value, other.value) && count == other.count
+                && approximate == other.approximate;
+    }
+
+    @Override
+    public String toString() {
+        return value + (approximate ? " (~" : " (") + count + ")";
+    }
+}
@@ -0,0 +1,121 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * Computes the distinct values of the columns of in-memory items with their
+ * counts, each among the items matching the filters of the other columns.
+ * <p>
+ * The engine counts over the {@link ColumnMatchSets} the filters are
+ * evaluated with, so no filter is evaluated for the facets alone. The values
+ * of a column are only counted again once the matches of another column
+ * changed, which the match sets show by replacing their bit set.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class FacetEngine<T> implements Serializable {
+
+    private final Map<Object, CachedFacets> facets = new HashMap<>();
+
+    /**
+     * Counts of a column with the state of the match sets they were counted
+     * from.
+     */
+    private static final class CachedFacets implements Serializable {
+        private final List<Object> matchesState;
+        private final List<FacetCount> counts;
+
+        private CachedFacets(List<Object> matchesState,
+                List<FacetCount> counts) {
+            this.matchesState = matchesState;
+            this.counts = counts;
+        }
+
+        private boolean isValid(List<Object> currentState) {
+            if (currentState.size() != matchesState.size()) {
+                return false;
+            }
+            // the states are compared by identity, bit sets are replaced
+            // rather than modified
+            for (int i = 0; i < currentState.size(); i++) {
+                if (currentState.get(i) != matchesState.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns the distinct values of a column with the number of items having
+     * each of them, among the items matching the filters of the other
+     * columns, by decreasing count.
+     *
+     * @param matchSets
+     *                      the matches of the filters of the columns, up to
+     *                      date with the filters
+     * @param column
+     *                      the column, or any key identifying it
+     * @param valueProvider
+     *                      the value provider of the column
+     * @return the values with their counts
+     */
+    public List<FacetCount> getFacets(ColumnMatchSets<T> matchSets,
+            Object column, ValueProvider<T, ?> valueProvider) {
+        List<Object> matchesState = matchSets.getMatchesState(column);
+        CachedFacets cached = facets.get(column);
+        if (cached == null || !cached.isValid(matchesState)) {
+            cached = new CachedFacets(matchesState,
+                    computeFacets(matchSets, column, valueProvider));
+            facets.put(column, cached);
+        }
+        return cached.counts;
+    }
+
+    private List<FacetCount> computeFacets(ColumnMatchSets<T> matchSets,
+            Object column, ValueProvider<T, ?> valueProvider) {
+        BitSet matches = matchSets.getMatches(column);
+        Map<Object, long[]> counts = new LinkedHashMap<>();
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches
+                .nextSetBit(i + 1)) {
+            counts.computeIfAbsent(valueProvider.apply(matchSets.getItem(i)),
+                    value -> new long[1])[0]++;
+        }
+        List<FacetCount> result = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> result
+                .add(new FacetCount(value, count[0])));
+        result.sort(Comparator.comparingLong(FacetCount::getCount).reversed());
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -0,0 +1,176 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.vaadin.flow.component.AbstractCompositeField;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.checkbox.CheckboxGroup;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Filter component listing the distinct values of a column with the number
+ * of items having each of them, among the items matching the filters of the
+ * other columns, editing a {@link ValueSetFilterDto}. The values are reloaded
+ * each time the {@link FilterField} holding the component opens.
+ * <p>
+ * The values usually come from the grid:
+ * 
+ * <pre>
+ * EnhancedColumn&lt;Person&gt; column = grid.addColumn(Person::getCity);
+ * column.setHeader("City", new FacetFilterComponent&lt;&gt;(() -&gt; grid.getFacets(column)));
+ * </pre>
+ * 
+ * A {@code null} value is not listed, as it cannot be an item of the
+ * checkbox group.
+ *
+ * @param <V> the type of the column values
+ */
+public class FacetFilterComponent<V>
+		extends AbstractCompositeField<Div, FacetFilterComponent<V>, ValueSetFilterDto<V>> {
+
+	private final SerializableSupplier<List<FacetCount>> facetSupplier;
+
+	private final CheckboxGroup<V> checkboxGroup = new CheckboxGroup<>();
+
+	private final List<V> facetValues = new ArrayList<>();
+
+	private final Map<Object, FacetCount> counts = new HashMap<>();
+
+	private SerializableFunction<V, String> valueLabelGenerator = String::valueOf;
+
+	private boolean updatingPresentation;
+
+	private Registration openedRegistration;
+
+	/**
+	 * Creates a facet filter component.
+	 * 
+	 * @param facetSupplier supplier of the values of the column with their
+	 *                      counts, called each time the filter field opens
+	 */
+	public FacetFilterComponent(SerializableSupplier<List<FacetCount>> facetSupplier) {
+		super(new ValueSetFilterDto<>());
+		this.facetSupplier = facetSupplier;
+		checkboxGroup.setItemLabelGenerator(value -> valueLabelGenerator.apply(value) + getCountLabel(value));
+		checkboxGroup.addValueChangeListener(e -> {
+			if (!updatingPresentation) {
+				setModelValue(new ValueSetFilterDto<>(e.getValue()), e.isFromClient());
+			}
+		});
+		getContent().add(checkboxGroup);
+	}
+
+	@Override
+	protected void onAttach(AttachEvent attachEvent) {
+		super.onAttach(attachEvent);
+		FilterField.findComponent(this).ifPresent(filterField -> openedRegistration = filterField
+				.addOpenedChangeListener(e -> {
+					if (e.isOpened()) {
+						refreshFacets();
+					}
+				}));
+	}
+
+	@Override
+	protected void onDetach(DetachEvent detachEvent) {
+		if (openedRegistration != null) {
+			openedRegistration.remove();
+			openedRegistration = null;
+		}
+		super.onDetach(detachEvent);
+	}
+
+	/**
+	 * Reloads the values and their counts from the facet supplier.
+	 */
+	@SuppressWarnings("unchecked")
+	public void refreshFacets() {
+		facetValues.clear();
+		counts.clear();
+		for (FacetCount facet : facetSupplier.get()) {
+			if (facet.getValue() != null) {
+				facetValues.add((V) facet.getValue());
+				counts.put(facet.getValue(), facet);
+			}
+		}
+		showValues(getValue());
+	}
+
+	private String getCountLabel(V value) {
+		FacetCount facet = counts.get(value);
+		if (facet == null) {
+			return " (0)";
+		}
+		return (facet.isApproximate() ? " (~" : " (") + facet.getCount() + ")";
+	}
+
+	private void showValues(ValueSetFilterDto<V> value) {
+		List<V> items = new ArrayList<>(facetValues);
+		// selected values no longer matching the other filters stay visible
+		for (V selected : value.getValues()) {
+			if (selected != null && !counts.containsKey(selected)) {
+				items.add(selected);
+			}
+		}
+		updatingPresentation = true;
+		try {
+			checkboxGroup.setItems(items);
+			checkboxGroup.setValue(value.getValues());
+		} finally {
+			updatingPresentation = false;
+		}
+	}
+
+	@Override
+	protected void setPresentationValue(ValueSetFilterDto<V> value) {
+		showValues(value == null ? getEmptyValue() : value);
+	}
+
+	/**
+	 * Sets the function generating the label of a value, followed by its
+	 * count, prefixed with a tilde if it is approximate. Default is
+	 * {@link String#valueOf(Object)}.
+	 * 
+	 * @param valueLabelGenerator the label generator, not null
+	 */
+	public void setValueLabelGenerator(SerializableFunction<V, String> valueLabelGenerator) {
+		this.valueLabelGenerator = valueLabelGenerator;
+		checkboxGroup.getDataProvider().refreshAll();
+	}
+
+	/**
+	 * Returns the checkbox group listing the values.
+	 * 
+	 * @return the checkbox group
+	 */
+	public CheckboxGroup<V> getCheckboxGroup() {
+		return checkboxGroup;
+	}
+}
@@ -0,0 +1,57 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+
+/**
+ * Computes the distinct values of a column in the backend of a data provider
+ * that is not in memory, typically with a {@code GROUP BY} query on the
+ * column restricted by the filters of the other columns.
+ *
+ * @param <T>
+ *            the type of the grid items
+ * @see EnhancedGrid#setFacetProvider(FacetProvider)
+ */
+@FunctionalInterface
+public interface FacetProvider<T> extends Serializable {
+
+    /**
+     * Returns the distinct values of a column with the number of items having
+     * each of them, among the items matching the given filter. The filter
+     * combines the active filters of all the other columns. Its
+     * {@link Filter#getFilterExpression() expression} is {@code null} if one
+     * of them cannot be expressed, see {@link FilterFieldDto}.
+     * <p>
+     * The values are displayed in the returned order, usually by decreasing
+     * count.
+     *
+     * @param columnKey
+     *                  the key of the column
+     * @param filter
+     *                  the filter of the other columns
+     * @return the values with their counts, not {@code null}
+     */
+    List<FacetCount> fetchFacets(String columnKey, Filter<T> filter);
+}
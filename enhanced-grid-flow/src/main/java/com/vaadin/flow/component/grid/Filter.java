@@ -20,6 +20,8 @@ package com.vaadin.flow.component.grid;
  * #L%
  */
 
+import java.io.Serializable;
+
 import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
 import com.vaadin.flow.function.SerializablePredicate;
 
@@ -30,10 +32,12 @@ import com.vaadin.flow.function.SerializablePredicate;
  * @param <T>
  *            type of the underlying grid this filter is compatible with
  */
-public class Filter<T> {
+public class Filter<T> implements Serializable {
 
 	private SerializablePredicate<T> filterPredicate;
 
+	private FilterExpression filterExpression;
+
 	/**
 	 * Default constructor.
 	 */
@@ -49,6 +53,18 @@ public class Filter<T> {
 		this.filterPredicate = filterPredicate;
 	}
 
+	/**
+	 * Constructor with filter predicate and the equivalent structured
+	 * expression.
+	 * 
+	 * @param filterPredicate  the filter predicate to set
+	 * @param filterExpression the filter expression to set, may be null
+	 */
+	public Filter(SerializablePredicate<T> filterPredicate, FilterExpression filterExpression) {
+		this.filterPredicate = filterPredicate;
+		this.filterExpression = filterExpression;
+	}
+
 	/**
 	 * Get the filter predicate.
 	 * 
@@ -67,4 +83,25 @@ public class Filter<T> {
 		this.filterPredicate = filterPredicate;
 	}
 
+	/**
+	 * Get the structured expression equivalent to the filter predicate. A
+	 * backend can translate it into its own query language, for example a SQL
+	 * where clause, instead of testing the predicate in memory.
+	 * 
+	 * @return the filter expression, or null if some column filter cannot be
+	 *         expressed as one, in which case the predicate has to be used
+	 */
+	public FilterExpression getFilterExpression() {
+		return filterExpression;
+	}
+
+	/**
+	 * Set the structured expression equivalent to the filter predicate.
+	 * 
+	 * @param filterExpression the filter expression to set
+	 */
+	public void setFilterExpression(FilterExpression filterExpression) {
+		this.filterExpression = filterExpression;
+	}
+
 }
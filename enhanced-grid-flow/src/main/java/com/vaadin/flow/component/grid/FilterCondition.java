@@ -0,0 +1,415 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Structured description of a column filter, exposed by
+ * {@link FilterFieldDto#getFilterCondition()}. Unlike a predicate, a
+ * condition can be answered by a column index without evaluating every row.
+ * <p>
+ * Conditions are created with the static factory methods and are immutable.
+ */
+public final class FilterCondition implements Serializable {
+
+    /**
+     * The kind of test a condition performs on a column value.
+     */
+    public enum Operator {
+        /**
+         * The value equals the single condition value, or its text equals
+         * the condition text for conditions created with
+         * {@link FilterCondition#textEquals(String, boolean)}.
+         */
+        EQUALS,
+        /**
+         * The value equals one of the condition values.
+         */
+        IN,
+        /**
+         * The value lies between the lower and upper bounds.
+         */
+        RANGE,
+        /**
+         * The text of the value contains the condition text.
+         */
+        CONTAINS,
+        /**
+         * The text of the value starts with the condition text.
+         */
+        STARTS_WITH
+    }
+
+    private final Operator operator;
+    private final Set<Object> values;
+    private final Comparable<?> lowerBound;
+    private final boolean lowerInclusive;
+    private final Comparable<?> upperBound;
+    private final boolean upperInclusive;
+    private final String text;
+    private final boolean caseSensitive;
+
+    private FilterCondition(Operator operator, Set<Object> values,
+            Comparable<?> lowerBound, boolean lowerInclusive,
+            Comparable<?> upperBound, boolean upperInclusive) {
+        this(operator, values, lowerBound, lowerInclusive, upperBound,
+                upperInclusive, null, false);
+    }
+
+    private FilterCondition(Operator operator, Set<Object> values,
+            Comparable<?> lowerBound, boolean lowerInclusive,
+            Comparable<?> upperBound, boolean upperInclusive, String text,
+            boolean caseSensitive) {
+        this.operator = operator;
+        this.values = values;
+        this.lowerBound = lowerBound;
+        this.lowerInclusive = lowerInclusive;
+        this.upperBound = upperBound;
+        this.upperInclusive = upperInclusive;
+        this.text = text;
+        this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * Creates a condition matching the values equal to the given value.
+     *
+     * @param value
+     *              the value to match, not {@code null}
+     * @return the condition
+     */
+    public static FilterCondition equalTo(Object value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        return new FilterCondition(Operator.EQUALS,
+                Collections.singleton(value), null, false, null, false);
+    }
+
+    /**
+     * Creates a condition matching the values whose text equals the given
+     * text. The text of a value is its {@link Object#toString()}, so values
+     * of any type are compared, for example numbers with their decimal text.
+     * The single {@link #getValues() value} of the condition is the text.
+     *
+     * @param text
+     *                      the text to match, not {@code null}
+     * @param caseSensitive
+     *                      {@code false} to ignore the case
+     * @return the condition
+     */
+    public static FilterCondition textEquals(String text,
+            boolean caseSensitive) {
+        Objects.requireNonNull(text, "text cannot be null");
+        return new FilterCondition(Operator.EQUALS,
+                Collections.singleton(text), null, false, null, false, text,
+                caseSensitive);
+    }
+
+    /**
+     * Creates a condition matching the values equal to any of the given
+     * values.
+     *
+     * @param values
+     *               the values to match, not {@code null}
+     * @return the condition
+     */
+    public static FilterCondition in(Collection<?> values) {
+        Objects.requireNonNull(values, "values cannot be null");
+        return new FilterCondition(Operator.IN,
+                Collections.unmodifiableSet(new LinkedHashSet<>(values)), null,
+                false, null, false);
+    }
+
+    /**
+     * Creates a condition matching the values between two bounds. Values that
+     * are {@code null} never match.
+     *
+     * @param lowerBound
+     *                       the lower bound, or {@code null} for no lower
+     *                       bound
+     * @param lowerInclusive
+     *                       {@code true} if the lower bound itself matches
+     * @param upperBound
+     *                       the upper bound, or {@code null} for no upper
+     *                       bound
+     * @param upperInclusive
+     *                       {@code true} if the upper bound itself matches
+     * @return the condition
+     */
+    public static FilterCondition between(Comparable<?> lowerBound,
+            boolean lowerInclusive, Comparable<?> upperBound,
+            boolean upperInclusive) {
+        return new FilterCondition(Operator.RANGE, Collections.emptySet(),
+                lowerBound, lowerInclusive, upperBound, upperInclusive);
+    }
+
+    /**
+     * Creates a condition matching the values greater than or equal to the
+     * given bound.
+     *
+     * @param lowerBound
+     *                   the inclusive lower bound, not {@code null}
+     * @return the condition
+     */
+    public static FilterCondition atLeast(Comparable<?> lowerBound) {
+        Objects.requireNonNull(lowerBound, "lower bound cannot be null");
+        return between(lowerBound, true, null, false);
+    }
+
+    /**
+     * Creates a condition matching the values less than or equal to the given
+     * bound.
+     *
+     * @param upperBound
+     *                   the inclusive upper bound, not {@code null}
+     * @return the condition
+     */
+    public static FilterCondition atMost(Comparable<?> upperBound) {
+        Objects.requireNonNull(upperBound, "upper bound cannot be null");
+        return between(null, false, upperBound, true);
+    }
+
+    /**
+     * Creates a condition matching the values whose text contains the given
+     * text. The text of a value is its {@link Object#toString()}.
+     *
+     * @param text
+     *                      the text to look for, not {@code null}
+     * @param caseSensitive
+     *                      {@code false} to ignore the case
+     * @return the condition
+     */
+    public static FilterCondition contains(String text,
+            boolean caseSensitive) {
+        Objects.requireNonNull(text, "text cannot be null");
+        return new FilterCondition(Operator.CONTAINS, Collections.emptySet(),
+                null, false, null, false, text, caseSensitive);
+    }
+
+    /**
+     * Creates a condition matching the values whose text starts with the
+     * given text. The text of a value is its {@link Object#toString()}.
+     *
+     * @param text
+     *                      the prefix to look for, not {@code null}
+     * @param caseSensitive
+     *                      {@code false} to ignore the case
+     * @return the condition
+     */
+    public static FilterCondition startsWith(String text,
+            boolean caseSensitive) {
+        Objects.requireNonNull(text, "text cannot be null");
+        return new FilterCondition(Operator.STARTS_WITH,
+                Collections.emptySet(), null, false, null, false, text,
+                caseSensitive);
+    }
+
+    /**
+     * Returns the kind of test of this condition.
+     *
+     * @return the operator
+     */
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Returns the values to match for {@link Operator#EQUALS} and
+     * {@link Operator#IN} conditions.
+     *
+     * @return the values, empty for range conditions
+     */
+    public Set<Object> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the lower bound of a {@link Operator#RANGE} condition.
+     *
+     * @return the lower bound, or {@code null} if unbounded
+     */
+    public Comparable<?> getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Returns whether the lower bound itself matches.
+     *
+     * @return {@code true} if the lower bound is inclusive
+     */
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    /**
+     * Returns the upper bound of a {@link Operator#RANGE} condition.
+     *
+     * @return the upper bound, or {@code null} if unbounded
+     */
+    public Comparable<?> getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Returns whether the upper bound itself matches.
+     *
+     * @return {@code true} if the upper bound is inclusive
+     */
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    /**
+     * Returns the text of a {@link Operator#CONTAINS} or
+     * {@link Operator#STARTS_WITH} condition, or of an {@link Operator#EQUALS}
+     * condition comparing the text of the values.
+     *
+     * @return the text, or {@code null} for other conditions
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns whether a condition with a {@link #getText() text} compares the
+     * case.
+     *
+     * @return {@code true} if the case is compared
+     */
+    public boolean isCaseSensitive() {
+        return caseSensitive;
+    }
+
+    /**
+     * Tests a column value against this condition.
+     *
+     * @param value
+     *              the column value, may be {@code null}
+     * @return {@code true} if the value matches
+     */
+    public boolean test(Object value) {
+        if (value == null) {
+            return false;
+        }
+        switch (operator) {
+        case RANGE:
+            return isAboveLowerBound(value) && isBelowUpperBound(value);
+        case CONTAINS:
+            return containsText(value.toString());
+        case STARTS_WITH:
+            return value.toString().regionMatches(!caseSensitive, 0, text, 0,
+                    text.length());
+        case EQUALS:
+            if (text != null) {
+                return caseSensitive ? value.toString().equals(text)
+                        : value.toString().equalsIgnoreCase(text);
+            }
+            return values.contains(value);
+        default:
+            return values.contains(value);
+        }
+    }
+
+    /**
+     * Looks for the text without creating any string, unlike converting both
+     * sides to upper case.
+     */
+    private boolean containsText(String valueText) {
+        int last = valueText.length() - text.length();
+        for (int offset = 0; offset <= last; offset++) {
+            if (valueText.regionMatches(!caseSensitive, offset, text, 0,
+                    text.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a value is above the lower bound, or equal to it if the
+     * bound is inclusive.
+     *
+     * @param value
+     *              the value to compare, not {@code null}
+     * @return {@code true} if the value satisfies the lower bound
+     * @throws ClassCastException
+     *                            if the value cannot be compared to the bound
+     */
+    boolean isAboveLowerBound(Object value) {
+        if (lowerBound == null) {
+            return true;
+        }
+        int comparison = compare(value, lowerBound);
+        return lowerInclusive ? comparison >= 0 : comparison > 0;
+    }
+
+    /**
+     * Returns whether a value is below the upper bound, or equal to it if the
+     * bound is inclusive.
+     *
+     * @param value
+     *              the value to compare, not {@code null}
+     * @return {@code true} if the value satisfies the upper bound
+     * @throws ClassCastException
+     *                            if the value cannot be compared to the bound
+     */
+    boolean isBelowUpperBound(Object value) {
+        if (upperBound == null) {
+            return true;
+        }
+        int comparison = compare(value, upperBound);
+        return upperInclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compare(Object value, Comparable<?> bound) {
+        return ((Comparable) value).compareTo(bound);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, values, lowerBound, lowerInclusive,
+                upperBound, upperInclusive, text, caseSensitive);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FilterCondition)) {
+            return false;
+        }
+        FilterCondition other = (FilterCondition) obj;
+        return operator == other.operator
+                && Objects.equals(values, other.values)
+                && Objects.equals(lowerBound, other.lowerBound)
+                && lowerInclusive == other.lowerInclusive
+                && Objects.equals(upperBound, other.upperBound)
+                && upperInclusive == other.upperInclusive
+                && Objects.equals(text, other.text)
+                && caseSensitive == other.caseSensitive;
+    }
+}
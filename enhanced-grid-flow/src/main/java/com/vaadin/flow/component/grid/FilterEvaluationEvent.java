@@ -0,0 +1,106 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Optional;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+import com.vaadin.flow.component.ComponentEvent;
+
+/**
+ * Event fired when an {@link EnhancedGrid} starts and finishes evaluating its
+ * column filters in the background.
+ *
+ * @param <T>
+ *            the type of the grid items
+ * @see EnhancedGrid#setAsyncFilter(boolean)
+ */
+public class FilterEvaluationEvent<T> extends ComponentEvent<Grid<T>> {
+
+    /**
+     * State of a background filter evaluation.
+     */
+    public enum State {
+        /** The filters are being evaluated, the previous result is shown. */
+        RUNNING,
+        /** The new result has been applied to the grid. */
+        COMPLETED,
+        /**
+         * The evaluation was superseded by a newer one or by a data change
+         * and its result discarded.
+         */
+        CANCELLED,
+        /** The evaluation failed, the previous result is still shown. */
+        FAILED
+    }
+
+    private final State state;
+    private final Throwable failure;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source
+     *               the grid evaluating its filters
+     * @param state
+     *               the state of the evaluation
+     */
+    public FilterEvaluationEvent(Grid<T> source, State state) {
+        this(source, state, null);
+    }
+
+    /**
+     * Creates a new event.
+     *
+     * @param source
+     *                the grid evaluating its filters
+     * @param state
+     *                the state of the evaluation
+     * @param failure
+     *                the exception that made the evaluation fail, or
+     *                {@code null}
+     */
+    public FilterEvaluationEvent(Grid<T> source, State state,
+            Throwable failure) {
+        super(source, false);
+        this.state = state;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the state of the evaluation.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the exception that made the evaluation fail.
+     *
+     * @return the failure, or an empty optional unless the state is
+     *         {@link State#FAILED}
+     */
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+}
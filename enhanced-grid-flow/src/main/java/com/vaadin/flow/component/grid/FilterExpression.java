@@ -0,0 +1,268 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * Serializable tree describing a grid filter in terms of column keys, so that
+ * a backend can translate it, for example into a SQL {@code WHERE} clause,
+ * instead of testing the opaque filter predicate in memory.
+ * <p>
+ * A node is either a {@link Type#COLUMN column condition}, applying a
+ * {@link FilterCondition} to the value of the column with a given key, or a
+ * logical {@link Type#AND and}, {@link Type#OR or} or {@link Type#NOT not} of
+ * other nodes. Backends typically walk the tree recursively with
+ * {@link #getType()}, {@link #getOperands()}, {@link #getColumnKey()} and
+ * {@link #getCondition()}.
+ * <p>
+ * Expressions are created with the static factory methods and are
+ * immutable. Equal expressions describe the same filter, so a backend can use
+ * them as keys of a cache of counts or pages.
+ */
+public final class FilterExpression implements Serializable {
+
+    /**
+     * The kind of node of an expression.
+     */
+    public enum Type {
+        /**
+         * A condition on the value of one column.
+         */
+        COLUMN,
+        /**
+         * True if all operands are true.
+         */
+        AND,
+        /**
+         * True if any operand is true.
+         */
+        OR,
+        /**
+         * True if the single operand is false.
+         */
+        NOT
+    }
+
+    private final Type type;
+    private final String columnKey;
+    private final FilterCondition condition;
+    private final List<FilterExpression> operands;
+
+    private FilterExpression(Type type, String columnKey,
+            FilterCondition condition, List<FilterExpression> operands) {
+        this.type = type;
+        this.columnKey = columnKey;
+        this.condition = condition;
+        this.operands = operands;
+    }
+
+    /**
+     * Creates an expression applying a condition to the value of a column.
+     *
+     * @param columnKey
+     *                  the key of the column, see
+     *                  {@link Grid.Column#setKey(String)}, not {@code null}
+     * @param condition
+     *                  the condition on the column value, not {@code null}
+     * @return the expression
+     */
+    public static FilterExpression column(String columnKey,
+            FilterCondition condition) {
+        Objects.requireNonNull(columnKey, "column key cannot be null");
+        Objects.requireNonNull(condition, "condition cannot be null");
+        return new FilterExpression(Type.COLUMN, columnKey, condition,
+                Collections.emptyList());
+    }
+
+    /**
+     * Creates an expression that is true if all the given expressions are.
+     * An empty list is always true.
+     *
+     * @param operands
+     *                 the expressions to combine, not {@code null}
+     * @return the expression
+     */
+    public static FilterExpression and(List<FilterExpression> operands) {
+        return new FilterExpression(Type.AND, null, null,
+                List.copyOf(operands));
+    }
+
+    /**
+     * Creates an expression that is true if all the given expressions are.
+     *
+     * @param operands
+     *                 the expressions to combine
+     * @return the expression
+     */
+    public static FilterExpression and(FilterExpression... operands) {
+        return and(Arrays.asList(operands));
+    }
+
+    /**
+     * Creates an expression that is true if any of the given expressions is.
+     * An empty list is always false.
+     *
+     * @param operands
+     *                 the expressions to combine, not {@code null}
+     * @return the expression
+     */
+    public static FilterExpression or(List<FilterExpression> operands) {
+        return new FilterExpression(Type.OR, null, null,
+                List.copyOf(operands));
+    }
+
+    /**
+     * Creates an expression that is true if any of the given expressions is.
+     *
+     * @param operands
+     *                 the expressions to combine
+     * @return the expression
+     */
+    public static FilterExpression or(FilterExpression... operands) {
+        return or(Arrays.asList(operands));
+    }
+
+    /**
+     * Creates an expression that negates the given expression.
+     *
+     * @param operand
+     *                the expression to negate, not {@code null}
+     * @return the expression
+     */
+    public static FilterExpression not(FilterExpression operand) {
+        Objects.requireNonNull(operand, "operand cannot be null");
+        return new FilterExpression(Type.NOT, null, null, List.of(operand));
+    }
+
+    /**
+     * Returns the kind of this node.
+     *
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the key of the column a {@link Type#COLUMN} node applies to.
+     *
+     * @return the column key, or {@code null} for logical nodes
+     */
+    public String getColumnKey() {
+        return columnKey;
+    }
+
+    /**
+     * Returns the condition of a {@link Type#COLUMN} node.
+     *
+     * @return the condition, or {@code null} for logical nodes
+     */
+    public FilterCondition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Returns the operands of a logical node.
+     *
+     * @return the operands, empty for {@link Type#COLUMN} nodes
+     */
+    public List<FilterExpression> getOperands() {
+        return operands;
+    }
+
+    /**
+     * Evaluates this expression in memory.
+     *
+     * @param item
+     *                           the item to test
+     * @param valueProviderByKey
+     *                           function returning the value provider of the
+     *                           column with a given key
+     * @param <T>
+     *                           the type of the item
+     * @return {@code true} if the item matches
+     */
+    public <T> boolean test(T item,
+            SerializableFunction<String, ValueProvider<T, ?>> valueProviderByKey) {
+        switch (type) {
+        case COLUMN:
+            return condition
+                    .test(valueProviderByKey.apply(columnKey).apply(item));
+        case AND:
+            for (FilterExpression operand : operands) {
+                if (!operand.test(item, valueProviderByKey)) {
+                    return false;
+                }
+            }
+            return true;
+        case OR:
+            for (FilterExpression operand : operands) {
+                if (operand.test(item, valueProviderByKey)) {
+                    return true;
+                }
+            }
+            return false;
+        default:
+            return !operands.get(0).test(item, valueProviderByKey);
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+        case COLUMN:
+            return columnKey + " " + condition.getOperator();
+        case NOT:
+            return "NOT (" + operands.get(0) + ")";
+        default:
+            return operands.stream().map(Object::toString)
+                    .collect(Collectors.joining(" " + type + " ", "(", ")"));
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, columnKey, condition, operands);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FilterExpression)) {
+            return false;
+        }
+        FilterExpression other = (FilterExpression) obj;
+        return type == other.type && Objects.equals(columnKey, other.columnKey)
+                && Objects.equals(condition, other.condition)
+                && operands.equals(other.operands);
+    }
+}
@@ -30,6 +30,8 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent.JustifyContentMode;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.popover.Popover;
+import com.vaadin.flow.data.value.HasValueChangeMode;
+import com.vaadin.flow.data.value.ValueChangeMode;
 
 /**
  * Filter field component that can be used to filter grid columns.
@@ -40,6 +42,12 @@ public class FilterField extends Popover {
 
 	private static final String RESET_BTN_KEY = "filter-field.reset.btn";
 
+	/**
+	 * Default delay in milliseconds between the last change of the filter and
+	 * its evaluation in live mode.
+	 */
+	public static final int DEFAULT_LIVE_FILTER_DELAY = 300;
+
 	private Button applyButton;
 
 	private Button resetButton;
@@ -50,6 +58,10 @@ public class FilterField extends Popover {
 
 	private Component filterComponent;
 
+	private boolean liveFilter;
+
+	private int liveFilterDelay = DEFAULT_LIVE_FILTER_DELAY;
+
 	public FilterField() {
 		rootLayout = new VerticalLayout();
 		rootLayout.setSpacing(false);
@@ -83,10 +95,14 @@ public class FilterField extends Popover {
 	 * Apply the filter.
 	 */
 	public void applyFilter() {
-		applyFilterListener.onApplyFilter(((HasValue<?, ?>) filterComponent).getValue());
+		fireApplyFilter();
 		this.close();
 	}
 
+	private void fireApplyFilter() {
+		applyFilterListener.onApplyFilter(this, ((HasValue<?, ?>) filterComponent).getValue());
+	}
+
 	/**
 	 * Reset the filter.
 	 */
@@ -102,6 +118,14 @@ public class FilterField extends Popover {
 	public void addFilterComponent(Component filterComponent) {
 		this.filterComponent = filterComponent;
 		filterComponentDiv.add(filterComponent);
+		((HasValue<?, ?>) filterComponent).addValueChangeListener(e -> {
+			if (liveFilter) {
+				fireApplyFilter();
+			}
+		});
+		if (liveFilter) {
+			updateValueChangeMode(filterComponent);
+		}
 		if (!isEmptyFilter()) {
 			applyFilter();
 		}
@@ -125,6 +149,78 @@ public class FilterField extends Popover {
 		return ((HasValue<?, ?>) filterComponent).isEmpty();
 	}
 
+	/**
+	 * Sets whether the filter is applied while it is edited, without waiting
+	 * for the apply button.
+	 * <p>
+	 * Typing is debounced in the browser: fields of the filter component that
+	 * support a value change mode are switched to {@link ValueChangeMode#LAZY}
+	 * with the {@link #setLiveFilterDelay(int) live filter delay} as timeout,
+	 * so the value only reaches the server once it has not changed for that
+	 * delay. They are switched back to {@link ValueChangeMode#ON_CHANGE}
+	 * outside of live mode. Other fields, such as check boxes and selects,
+	 * apply the filter on each change. Default is {@code false}.
+	 * 
+	 * @param liveFilter {@code true} to apply the filter while it is edited
+	 */
+	public void setLiveFilter(boolean liveFilter) {
+		if (this.liveFilter == liveFilter) {
+			return;
+		}
+		this.liveFilter = liveFilter;
+		if (filterComponent != null) {
+			updateValueChangeMode(filterComponent);
+		}
+	}
+
+	/**
+	 * Returns whether the filter is applied while it is edited.
+	 * 
+	 * @return {@code true} in live mode
+	 * @see #setLiveFilter(boolean)
+	 */
+	public boolean isLiveFilter() {
+		return liveFilter;
+	}
+
+	/**
+	 * Sets the delay between the last change of the filter and its evaluation
+	 * in live mode. Default is {@value #DEFAULT_LIVE_FILTER_DELAY}.
+	 * 
+	 * @param liveFilterDelay the delay in milliseconds, not negative
+	 * @see #setLiveFilter(boolean)
+	 */
+	public void setLiveFilterDelay(int liveFilterDelay) {
+		if (liveFilterDelay < 0) {
+			throw new IllegalArgumentException("The live filter delay cannot be negative");
+		}
+		this.liveFilterDelay = liveFilterDelay;
+		if (liveFilter && filterComponent != null) {
+			updateValueChangeMode(filterComponent);
+		}
+	}
+
+	/**
+	 * Returns the delay between the last change of the filter and its
+	 * evaluation in live mode.
+	 * 
+	 * @return the delay in milliseconds
+	 */
+	public int getLiveFilterDelay() {
+		return liveFilterDelay;
+	}
+
+	private void updateValueChangeMode(Component component) {
+		if (component instanceof HasValueChangeMode) {
+			HasValueChangeMode field = (HasValueChangeMode) component;
+			field.setValueChangeMode(liveFilter ? ValueChangeMode.LAZY : ValueChangeMode.ON_CHANGE);
+			if (liveFilter) {
+				field.setValueChangeTimeout(liveFilterDelay);
+			}
+		}
+		component.getChildren().forEach(this::updateValueChangeMode);
+	}
+
 	private ApplyFilterListener applyFilterListener;
 
 	/**
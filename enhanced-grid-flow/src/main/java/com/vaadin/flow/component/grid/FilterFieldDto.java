@@ -43,4 +43,99 @@ public interface FilterFieldDto<T> {
 	 */
 	boolean isEmpty();
 
+	/**
+	 * Returns the structured condition equivalent to the filter predicate, if
+	 * the filter can be expressed as one. On an indexed column of an in-memory
+	 * grid, the condition is answered by the column index instead of testing
+	 * every row.
+	 * 
+	 * @return the filter condition, or null if the filter is only available as
+	 *         a predicate
+	 * @see com.vaadin.componentfactory.enhancedgrid.EnhancedColumn#setIndexed(boolean)
+	 */
+	default FilterCondition getFilterCondition() {
+		return null;
+	}
+
+	/**
+	 * Returns the structured expression equivalent to the filter predicate for
+	 * the column with the given key, used to push the grid filter down to a
+	 * backend. The default implementation wraps the
+	 * {@link #getFilterCondition() filter condition}. Filters that cannot be
+	 * described by a single condition, for example an inverted one, can
+	 * override this method to combine conditions with
+	 * {@link FilterExpression#not(FilterExpression)},
+	 * {@link FilterExpression#and(FilterExpression...)} or
+	 * {@link FilterExpression#or(FilterExpression...)}.
+	 * 
+	 * @param columnKey
+	 *                  the key of the filtered column
+	 * @return the filter expression, or null if the filter is only available
+	 *         as a predicate
+	 */
+	default FilterExpression getFilterExpression(String columnKey) {
+		FilterCondition condition = getFilterCondition();
+		return condition == null ? null : FilterExpression.column(columnKey, condition);
+	}
+
+	/**
+	 * Returns true if this filter only matches values that the given previous
+	 * filter matches too, for example a "contains" filter whose text has been
+	 * extended. The grid then only evaluates the items matched by the previous
+	 * filter instead of all items.
+	 * <p>
+	 * Returning false is always correct, it only disables the optimization.
+	 * 
+	 * @param previous
+	 *                 the filter applied previously, never empty
+	 * @return true if this filter narrows the previous one
+	 */
+	default boolean isRefinementOf(FilterFieldDto<T> previous) {
+		return false;
+	}
+
+	/**
+	 * Returns a copy of this filter that is not affected by later changes of
+	 * this instance. It is kept by the grid to be passed to
+	 * {@link #isRefinementOf(FilterFieldDto)} on the next filter change.
+	 * <p>
+	 * The default implementation returns this instance, which is only correct
+	 * for {@link #isImmutable() immutable} filters. Filters that are edited in
+	 * place, for example through a binder, must return a copy when they
+	 * override {@link #isRefinementOf(FilterFieldDto)}. A mutable filter whose
+	 * snapshot is this instance is never compared with its previous value, so
+	 * it is evaluated again on every filter change.
+	 * 
+	 * @return a snapshot of this filter
+	 */
+	default FilterFieldDto<T> snapshot() {
+		return this;
+	}
+
+	/**
+	 * Returns true if this filter never changes once created, so that it is
+	 * its own {@link #snapshot()}. A filter component then sets a new instance
+	 * for every change, and the same instance on two filter changes means the
+	 * filter did not change.
+	 * 
+	 * @return true if the filter is immutable, false by default
+	 */
+	default boolean isImmutable() {
+		return false;
+	}
+
+	/**
+	 * Returns true if a snapshot of a filter can be compared with a later
+	 * value of the filter, that is if the snapshot is a copy or the filter is
+	 * immutable.
+	 * 
+	 * @param snapshot the snapshot taken earlier
+	 * @param current  the current value of the filter
+	 * @return true if the snapshot is not affected by changes of the current
+	 *         value
+	 */
+	static boolean isDetachedSnapshot(FilterFieldDto<?> snapshot, FilterFieldDto<?> current) {
+		return snapshot != current || current.isImmutable();
+	}
+
 }
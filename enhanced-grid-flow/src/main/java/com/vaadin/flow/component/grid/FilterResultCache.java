@@ -0,0 +1,305 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+
+/**
+ * Least recently used cache of the in-memory filter results of an
+ * {@link EnhancedGrid}, so that switching back to a recent combination of
+ * column filters does not evaluate them again.
+ * <p>
+ * Results are keyed by the normalized filter state: the non empty column
+ * filters, identified by column key when the column has one. A filter state
+ * can only be cached if all its filter values implement
+ * {@link Object#equals(Object)} and are either
+ * {@link FilterFieldDto#isImmutable() immutable} or return a copy from
+ * {@link FilterFieldDto#snapshot()}, as a key must not change while it is
+ * cached. The cache is bounded by the estimated
+ * memory of the cached results rather than by their number, see
+ * {@link #setHashEntryBytes(long)}.
+ * <p>
+ * A cache holds the results of one data set, the items collection of a
+ * {@link com.vaadin.flow.data.provider.ListDataProvider}. It is cleared when
+ * used with another collection or when the data provider of a grid using it
+ * fires a data change event. The same instance may be shared by the grids of
+ * several UIs displaying the same item instances with the same column keys.
+ *
+ * @param <T>
+ *            the type of the items
+ * @see EnhancedGrid#setFilterResultCache(FilterResultCache)
+ */
+public class FilterResultCache<T> implements Serializable {
+
+    /**
+     * Estimated memory of a cached result besides its items, in bytes: the
+     * key with its filter snapshots, the cache entry and the set object.
+     */
+    static final long ENTRY_BYTES = 256;
+
+    /**
+     * Memory of an {@code int} array besides its elements, in bytes.
+     */
+    static final long ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * Default estimated memory per item of a result held in a hash set, in
+     * bytes. Identity hash sets keep the items in a table of 3 to 6
+     * references per item, 4.5 on average, which is 18 bytes with
+     * compressed references and 36 without; entry based sets such as
+     * {@link java.util.HashSet} need 36 to 48 bytes per item.
+     */
+    public static final long DEFAULT_HASH_ENTRY_BYTES = 24;
+
+    private final long maxBytes;
+    private final Map<Object, CachedResult<T>> results = new LinkedHashMap<>(
+            16, 0.75f, true);
+    private Collection<T> items;
+    private long usedBytes;
+    private long hashEntryBytes = DEFAULT_HASH_ENTRY_BYTES;
+
+    /**
+     * A cached result with the memory it was estimated at when stored.
+     */
+    private static final class CachedResult<T> implements Serializable {
+        private final Set<T> result;
+        private final long bytes;
+
+        private CachedResult(Set<T> result, long bytes) {
+            this.result = result;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxBytes
+     *                 the maximum estimated memory of the cached results, in
+     *                 bytes
+     */
+    public FilterResultCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException(
+                    "The maximum size must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Creates the key of a filter state, or returns {@code null} if the state
+     * cannot be cached because a filter value does not implement
+     * {@link Object#equals(Object)} or could change while cached. The key
+     * holds snapshots of the filter values, empty filters are left out.
+     *
+     * @param filterValues
+     *                     the filter value of each filtered column, in column
+     *                     order
+     * @return the key, or {@code null}
+     */
+    @SuppressWarnings("rawtypes")
+    public static Object createKey(
+            Map<? extends Grid.Column<?>, ? extends FilterFieldDto> filterValues) {
+        List<Object> key = new ArrayList<>();
+        for (Map.Entry<? extends Grid.Column<?>, ? extends FilterFieldDto> entry : filterValues
+                .entrySet()) {
+            FilterFieldDto filterValue = entry.getValue();
+            if (filterValue.isEmpty()) {
+                continue;
+            }
+            FilterFieldDto snapshot = filterValue.snapshot();
+            if (!hasValueEquality(snapshot)
+                    || !FilterFieldDto.isDetachedSnapshot(snapshot,
+                            filterValue)) {
+                // an instance edited in place would change its hash code
+                // while it is a key of the cache
+                return null;
+            }
+            String columnKey = entry.getKey().getKey();
+            key.add(columnKey != null ? columnKey : entry.getKey());
+            key.add(snapshot);
+        }
+        return key;
+    }
+
+    /**
+     * Returns whether an object overrides {@link Object#equals(Object)}.
+     */
+    static boolean hasValueEquality(Object filterValue) {
+        try {
+            return filterValue.getClass().getMethod("equals", Object.class)
+                    .getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the cached result of a filter state and marks it as recently
+     * used.
+     *
+     * @param items
+     *              the items collection the result was computed from
+     * @param key
+     *              the key of the filter state, see
+     *              {@link #createKey(Map)}
+     * @return the items matching the filters, or {@code null} if not cached
+     */
+    public synchronized Set<T> get(Collection<T> items, Object key) {
+        CachedResult<T> cached = items == this.items ? results.get(key)
+                : null;
+        return cached != null ? cached.result : null;
+    }
+
+    /**
+     * Caches the result of a filter state, evicting the least recently used
+     * results if the cache becomes too large. A result larger than the whole
+     * cache is not stored.
+     *
+     * @param items
+     *               the items collection the result was computed from
+     * @param key
+     *               the key of the filter state, see
+     *               {@link #createKey(Map)}
+     * @param result
+     *               the items matching the filters, not modified afterwards
+     */
+    public synchronized void put(Collection<T> items, Object key,
+            Set<T> result) {
+        if (items != this.items) {
+            clear();
+            this.items = items;
+        }
+        long bytes = estimateBytes(result);
+        if (bytes > maxBytes) {
+            return;
+        }
+        CachedResult<T> previous = results.put(key,
+                new CachedResult<>(result, bytes));
+        if (previous != null) {
+            usedBytes -= previous.bytes;
+        }
+        usedBytes += bytes;
+        Iterator<CachedResult<T>> eldest = results.values().iterator();
+        while (usedBytes > maxBytes) {
+            usedBytes -= eldest.next().bytes;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public synchronized void clear() {
+        results.clear();
+        usedBytes = 0;
+        items = null;
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return the number of cached results
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the estimated memory of the cached results.
+     *
+     * @return the used memory in bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns the maximum estimated memory of the cached results.
+     *
+     * @return the maximum memory in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the estimated memory per item of a result held in a hash set. The
+     * memory of a cached result is estimated from its actual representation:
+     * <ul>
+     * <li>a hash set is estimated at
+     * {@code ENTRY_BYTES + hashEntryBytes * size} bytes</li>
+     * <li>an {@link ItemPositionSet} shares the item snapshot with the grid
+     * and stores one {@code int} position per item, unless it holds all the
+     * items, so {@code 16 + 4 * size} bytes are added for the position
+     * array. It builds an identity hash set on its first
+     * {@link Set#contains(Object) contains} call, as filtering a plain list
+     * data provider does, which is counted like a hash set</li>
+     * </ul>
+     * where {@code ENTRY_BYTES} is 256 bytes for the key, the cache entry and
+     * the set object. The items themselves are shared with the data provider
+     * and not counted. The setting applies to results cached afterwards.
+     * Default is {@value #DEFAULT_HASH_ENTRY_BYTES}, which covers an
+     * identity hash set with compressed references; use about 40 on a heap
+     * without compressed references.
+     *
+     * @param hashEntryBytes
+     *                       the memory per item in bytes, not negative
+     */
+    public synchronized void setHashEntryBytes(long hashEntryBytes) {
+        if (hashEntryBytes < 0) {
+            throw new IllegalArgumentException(
+                    "The memory per item cannot be negative");
+        }
+        this.hashEntryBytes = hashEntryBytes;
+    }
+
+    /**
+     * Returns the estimated memory per item of a result held in a hash set.
+     *
+     * @return the memory per item in bytes
+     * @see #setHashEntryBytes(long)
+     */
+    public synchronized long getHashEntryBytes() {
+        return hashEntryBytes;
+    }
+
+    /**
+     * Estimates the memory of a result, see {@link #setHashEntryBytes(long)}.
+     */
+    long estimateBytes(Set<?> result) {
+        long bytes = ENTRY_BYTES + hashEntryBytes * result.size();
+        if (result instanceof ItemPositionSet
+                && ((ItemPositionSet<?>) result).hasPositions()) {
+            bytes += ARRAY_HEADER_BYTES + (long) Integer.BYTES * result.size();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,76 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+
+/**
+ * Estimates the number of distinct values added to it in constant memory.
+ * Each value is added as a 64 bit hash: its first bits select one of the
+ * registers, which keeps the longest run of leading zeros seen in the
+ * remaining bits. With 4096 registers, the standard error is about 1.6%.
+ */
+class HyperLogLog implements Serializable {
+
+    private static final int PRECISION = 12;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private final byte[] registers = new byte[REGISTER_COUNT];
+
+    /**
+     * Adds a value.
+     *
+     * @param hash
+     *             the 64 bit hash of the value
+     */
+    void add(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        // the marker bit bounds the rank when the remaining bits are zero
+        int rank = Long.numberOfLeadingZeros(
+                (hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Returns the estimated number of distinct values added.
+     *
+     * @return the estimated cardinality
+     */
+    long estimate() {
+        double sum = 0;
+        int zeroRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+        double m = REGISTER_COUNT;
+        double estimate = 0.7213 / (1 + 1.079 / m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeroRegisters > 0) {
+            // linear counting is more accurate for small cardinalities
+            estimate = m * Math.log(m / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+}
@@ -0,0 +1,131 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.function.SerializableSupplier;
+
+/**
+ * Read-only snapshot of a selection stored as "all items matching a predicate
+ * except these ids, plus these explicitly selected items". Without a
+ * predicate, the snapshot only contains the explicitly selected items.
+ * <p>
+ * Membership checks are answered from the snapshot without touching the data
+ * provider. The items themselves are only fetched or resolved when the set is
+ * iterated, so handing this set to a selection event does not materialize the
+ * selection unless a listener actually reads it.
+ *
+ * @param <T> the type of the grid items
+ */
+class InvertedSelectionSet<T> extends AbstractSet<T> implements Serializable {
+
+    private final SelectionStore<T> included;
+    private final Map<Object, T> excluded;
+    private final SerializablePredicate<T> matcher;
+    private final SerializableFunction<T, Object> idProvider;
+    private final SerializableSupplier<Stream<T>> candidates;
+    private Integer size;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param included
+     *                   items selected explicitly, copied
+     * @param excluded
+     *                   items deselected from the select-all definition,
+     *                   copied
+     * @param matcher
+     *                   the predicate an item must match to be part of the
+     *                   select-all definition, or {@code null} if there is
+     *                   no select-all definition
+     * @param idProvider
+     *                   function returning the data provider id of an item
+     * @param candidates
+     *                   supplier of all items the definition is evaluated
+     *                   against
+     */
+    InvertedSelectionSet(SelectionStore<T> included, Map<Object, T> excluded,
+            SerializablePredicate<T> matcher,
+            SerializableFunction<T, Object> idProvider,
+            SerializableSupplier<Stream<T>> candidates) {
+        this.included = included.copy();
+        this.excluded = new HashMap<>(excluded);
+        this.matcher = matcher;
+        this.idProvider = idProvider;
+        this.candidates = candidates;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (matcher == null) {
+            return included.stream().iterator();
+        }
+        return Stream.concat(included.stream(),
+                candidates.get().filter(this::isImplicitlySelected)).iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        T item;
+        try {
+            item = (T) o;
+            Object id = idProvider.apply(item);
+            return included.contains(id) || (matcher != null
+                    && !excluded.containsKey(id) && matcher.test(item));
+        } catch (ClassCastException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return included.isEmpty()
+                && (matcher == null || !iterator().hasNext());
+    }
+
+    @Override
+    public int size() {
+        if (size == null) {
+            size = matcher == null ? included.size()
+                    : included.size() + (int) candidates.get()
+                            .filter(this::isImplicitlySelected).count();
+        }
+        return size;
+    }
+
+    private boolean isImplicitlySelected(T item) {
+        Object id = idProvider.apply(item);
+        return !included.contains(id) && !excluded.containsKey(id)
+                && matcher.test(item);
+    }
+}
@@ -0,0 +1,188 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only set of the items at given positions of a snapshot of a
+ * collection, in the order of the collection. It is the result of evaluating
+ * a filter on the items of an in-memory data provider: a
+ * {@link ParallelListDataProvider} reuses the positions instead of
+ * evaluating the filter again.
+ * <p>
+ * Items are compared by identity. Membership checks build an identity hash
+ * set of the items on first use.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public final class ItemPositionSet<T> extends AbstractSet<T>
+        implements Serializable {
+
+    /**
+     * Sets smaller than this are filtered on the calling thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final Object[] items;
+    /** ascending positions, or null for all the items */
+    private final int[] positions;
+    private transient Set<Object> members;
+
+    private ItemPositionSet(Object[] items, int[] positions) {
+        this.items = items;
+        this.positions = positions;
+    }
+
+    /**
+     * Creates a set of all the items of a snapshot of the given collection.
+     *
+     * @param items
+     *              the items, copied
+     * @param <T>
+     *              the type of the items
+     * @return the set of all the items
+     */
+    public static <T> ItemPositionSet<T> of(Collection<T> items) {
+        return new ItemPositionSet<>(items.toArray(), null);
+    }
+
+    /**
+     * Creates a set of the items at the given positions of a snapshot.
+     *
+     * @param items
+     *                  the snapshot, not copied
+     * @param positions
+     *                  the ascending positions, not copied
+     * @param <T>
+     *                  the type of the items
+     * @return the set of the items at the positions
+     */
+    static <T> ItemPositionSet<T> of(Object[] items, int[] positions) {
+        return new ItemPositionSet<>(items, positions);
+    }
+
+    /**
+     * Returns the items of this set matching a predicate, as a set over the
+     * same snapshot.
+     *
+     * @param predicate
+     *                  the predicate to test, thread safe if
+     *                  {@code parallel}
+     * @param parallel
+     *                  {@code true} to test large sets on all cores
+     * @return the matching items
+     */
+    @SuppressWarnings("unchecked")
+    public ItemPositionSet<T> filter(Predicate<? super T> predicate,
+            boolean parallel) {
+        IntStream stream = positions == null
+                ? IntStream.range(0, items.length)
+                : IntStream.of(positions);
+        if (parallel && size() >= PARALLEL_THRESHOLD) {
+            stream = stream.parallel();
+        }
+        return new ItemPositionSet<>(items, stream
+                .filter(position -> predicate.test((T) items[position]))
+                .toArray());
+    }
+
+    /**
+     * Returns the snapshot of the items the positions refer to.
+     *
+     * @return the snapshot, not to be modified
+     */
+    Object[] getSnapshot() {
+        return items;
+    }
+
+    /**
+     * Returns the positions of the items of this set in the snapshot.
+     *
+     * @return the ascending positions, not to be modified
+     */
+    int[] getPositions() {
+        return positions == null ? IntStream.range(0, items.length).toArray()
+                : positions;
+    }
+
+    /**
+     * Returns whether the set stores the positions of its items, rather than
+     * holding all the items of the snapshot.
+     *
+     * @return {@code true} if the set has a position array
+     */
+    boolean hasPositions() {
+        return positions != null;
+    }
+
+    @Override
+    public int size() {
+        return positions == null ? items.length : positions.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (members == null) {
+            Set<Object> identitySet = Collections
+                    .newSetFromMap(new IdentityHashMap<>(size()));
+            for (int i = 0; i < size(); i++) {
+                identitySet.add(items[position(i)]);
+            }
+            members = identitySet;
+        }
+        return members.contains(o);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size();
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) items[position(next++)];
+            }
+        };
+    }
+
+    private int position(int index) {
+        return positions == null ? index : positions[index];
+    }
+}
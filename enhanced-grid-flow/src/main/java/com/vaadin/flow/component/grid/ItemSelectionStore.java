@@ -0,0 +1,87 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Default {@link SelectionStore} keeping the selected items by id, in
+ * selection order.
+ *
+ * @param <T> the type of the grid items
+ */
+public class ItemSelectionStore<T> implements SelectionStore<T> {
+
+	private final Map<Object, T> items;
+
+	/**
+	 * Creates an empty store.
+	 */
+	public ItemSelectionStore() {
+		items = new LinkedHashMap<>();
+	}
+
+	private ItemSelectionStore(Map<Object, T> items) {
+		this.items = new LinkedHashMap<>(items);
+	}
+
+	@Override
+	public boolean contains(Object id) {
+		return items.containsKey(id);
+	}
+
+	@Override
+	public boolean add(Object id, T item) {
+		return items.putIfAbsent(id, item) == null;
+	}
+
+	@Override
+	public boolean remove(Object id) {
+		return items.remove(id) != null;
+	}
+
+	@Override
+	public int size() {
+		return items.size();
+	}
+
+	@Override
+	public void clear() {
+		items.clear();
+	}
+
+	@Override
+	public Stream<T> stream() {
+		return items.values().stream();
+	}
+
+	@Override
+	public Stream<Object> streamIds() {
+		return items.keySet().stream();
+	}
+
+	@Override
+	public SelectionStore<T> copy() {
+		return new ItemSelectionStore<>(items);
+	}
+}
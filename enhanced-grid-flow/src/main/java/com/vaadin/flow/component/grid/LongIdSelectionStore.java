@@ -0,0 +1,270 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializableFunction;
+
+/**
+ * {@link SelectionStore} for items identified by numeric ids. Only the ids are
+ * kept, in a primitive {@code long} open addressing hash set, which needs a
+ * fraction of the memory of a set of entity objects. The items are resolved
+ * with the given resolver only when the selection is read.
+ * <p>
+ * The data provider ids of the items must be {@link Number numbers}. The
+ * selection order is not kept.
+ *
+ * @param <T> the type of the grid items
+ */
+public class LongIdSelectionStore<T> implements SelectionStore<T> {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final int RESOLVE_PAGE_SIZE = 500;
+
+	private final SerializableFunction<long[], Stream<T>> itemResolver;
+
+	/**
+	 * Open addressing table, 0 marks a free slot.
+	 */
+	private long[] keys;
+
+	private boolean containsZero;
+
+	private int size;
+
+	/**
+	 * Creates an empty store.
+	 * 
+	 * @param itemResolver function returning the items with the given ids,
+	 *                     for example with a single backend query
+	 */
+	public LongIdSelectionStore(SerializableFunction<long[], Stream<T>> itemResolver) {
+		this.itemResolver = Objects.requireNonNull(itemResolver, "item resolver cannot be null");
+		keys = new long[INITIAL_CAPACITY];
+	}
+
+	private LongIdSelectionStore(LongIdSelectionStore<T> other) {
+		itemResolver = other.itemResolver;
+		keys = other.keys.clone();
+		containsZero = other.containsZero;
+		size = other.size;
+	}
+
+	/**
+	 * Creates an empty store resolving the items by reading the given data
+	 * provider page by page and keeping the items whose id is selected. The
+	 * items of a {@link ListDataProvider} are read without its filter, so
+	 * that selected items hidden by the grid filter are resolved too. Prefer
+	 * {@link #LongIdSelectionStore(SerializableFunction)} with a query by ids
+	 * when the backend supports it.
+	 * 
+	 * @param <T>          the type of the grid items
+	 * @param dataProvider the data provider of the grid
+	 * @return a new store
+	 */
+	public static <T> LongIdSelectionStore<T> scanning(DataProvider<T, ?> dataProvider) {
+		Objects.requireNonNull(dataProvider, "data provider cannot be null");
+		return new LongIdSelectionStore<>(ids -> {
+			LongIdSelectionStore<T> wanted = new LongIdSelectionStore<>(ignored -> Stream.empty());
+			Arrays.stream(ids).forEach(id -> wanted.add(id, null));
+			if (dataProvider instanceof ListDataProvider) {
+				return ((ListDataProvider<T>) dataProvider).getItems().stream()
+						.filter(item -> wanted.contains(dataProvider.getId(item)));
+			}
+			return IntStream.iterate(0, offset -> offset + RESOLVE_PAGE_SIZE)
+					.mapToObj(offset -> fetchPage(dataProvider, offset))
+					.takeWhile(page -> !page.isEmpty())
+					.flatMap(List::stream)
+					.filter(item -> wanted.contains(dataProvider.getId(item)));
+		});
+	}
+
+	private static <T> List<T> fetchPage(DataProvider<T, ?> dataProvider, int offset) {
+		return dataProvider.fetch(new Query<>(offset, RESOLVE_PAGE_SIZE, null, null, null))
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public boolean contains(Object id) {
+		long key = toLong(id);
+		return key == 0 ? containsZero : indexOf(key) >= 0;
+	}
+
+	@Override
+	public boolean add(Object id, T item) {
+		long key = toLong(id);
+		if (key == 0) {
+			if (containsZero) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		while (keys[i] != 0) {
+			if (keys[i] == key) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		size++;
+		if (size * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object id) {
+		long key = toLong(id);
+		if (key == 0) {
+			if (!containsZero) {
+				return false;
+			}
+			containsZero = false;
+			size--;
+			return true;
+		}
+		int gap = indexOf(key);
+		if (gap < 0) {
+			return false;
+		}
+		// backward shift deletion keeps the probe sequences intact
+		int mask = keys.length - 1;
+		int i = gap;
+		while (true) {
+			i = (i + 1) & mask;
+			long current = keys[i];
+			if (current == 0) {
+				break;
+			}
+			int home = slot(current, mask);
+			boolean homeBetweenGapAndCurrent = gap <= i ? gap < home && home <= i : gap < home || home <= i;
+			if (!homeBetweenGapAndCurrent) {
+				keys[gap] = current;
+				gap = i;
+			}
+		}
+		keys[gap] = 0;
+		size--;
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		keys = new long[INITIAL_CAPACITY];
+		containsZero = false;
+		size = 0;
+	}
+
+	/**
+	 * Returns the selected ids.
+	 * 
+	 * @return the selected ids, in no particular order
+	 */
+	public long[] getIds() {
+		LongStream stored = Arrays.stream(keys).filter(key -> key != 0);
+		return (containsZero ? LongStream.concat(LongStream.of(0), stored) : stored).toArray();
+	}
+
+	@Override
+	public Stream<T> stream() {
+		if (size == 0) {
+			return Collections.<T>emptyList().stream();
+		}
+		return itemResolver.apply(getIds());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The ids are returned as {@link Long} objects.
+	 */
+	@Override
+	public Stream<Object> streamIds() {
+		return Arrays.stream(getIds()).mapToObj(Long::valueOf);
+	}
+
+	@Override
+	public SelectionStore<T> copy() {
+		return new LongIdSelectionStore<>(this);
+	}
+
+	private int indexOf(long key) {
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		while (keys[i] != 0) {
+			if (keys[i] == key) {
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void rehash(int capacity) {
+		long[] old = keys;
+		keys = new long[capacity];
+		int mask = capacity - 1;
+		for (long key : old) {
+			if (key != 0) {
+				int i = slot(key, mask);
+				while (keys[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = key;
+			}
+		}
+	}
+
+	private static int slot(long key, int mask) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+
+	private static long toLong(Object id) {
+		if (id instanceof Number) {
+			return ((Number) id).longValue();
+		}
+		throw new IllegalArgumentException(
+				"LongIdSelectionStore requires numeric item ids, got: " + id);
+	}
+}
@@ -0,0 +1,104 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.vaadin.flow.component.AbstractCompositeField;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.textfield.NumberField;
+
+/**
+ * Filter component for numeric columns, editing a {@link NumberRangeFilterDto}
+ * with a minimum and a maximum field.
+ * <p>
+ * The labels are translated with the {@code number-range-filter.*} keys of
+ * the application's {@link com.vaadin.flow.i18n.I18NProvider}.
+ */
+public class NumberRangeFilterComponent
+		extends AbstractCompositeField<Div, NumberRangeFilterComponent, NumberRangeFilterDto> {
+
+	private static final String MIN_KEY = "number-range-filter.min";
+
+	private static final String MAX_KEY = "number-range-filter.max";
+
+	private final NumberField minField = new NumberField();
+
+	private final NumberField maxField = new NumberField();
+
+	private boolean updatingPresentation;
+
+	/**
+	 * Creates an empty number range filter component.
+	 */
+	public NumberRangeFilterComponent() {
+		this(new NumberRangeFilterDto());
+	}
+
+	/**
+	 * Creates a number range filter component with an initial filter.
+	 * 
+	 * @param initialValue the initial filter
+	 */
+	public NumberRangeFilterComponent(NumberRangeFilterDto initialValue) {
+		super(new NumberRangeFilterDto());
+		minField.setLabel(getTranslation(MIN_KEY));
+		maxField.setLabel(getTranslation(MAX_KEY));
+		minField.addValueChangeListener(e -> updateValue(e.isFromClient()));
+		maxField.addValueChangeListener(e -> updateValue(e.isFromClient()));
+		getContent().add(minField, maxField);
+		setValue(initialValue);
+	}
+
+	private void updateValue(boolean fromClient) {
+		if (!updatingPresentation) {
+			setModelValue(new NumberRangeFilterDto(minField.getValue(), maxField.getValue()), fromClient);
+		}
+	}
+
+	@Override
+	protected void setPresentationValue(NumberRangeFilterDto value) {
+		NumberRangeFilterDto dto = value == null ? getEmptyValue() : value;
+		updatingPresentation = true;
+		try {
+			minField.setValue(dto.getMin());
+			maxField.setValue(dto.getMax());
+		} finally {
+			updatingPresentation = false;
+		}
+	}
+
+	/**
+	 * Returns the field editing the minimum.
+	 * 
+	 * @return the minimum field
+	 */
+	public NumberField getMinField() {
+		return minField;
+	}
+
+	/**
+	 * Returns the field editing the maximum.
+	 * 
+	 * @return the maximum field
+	 */
+	public NumberField getMaxField() {
+		return maxField;
+	}
+}
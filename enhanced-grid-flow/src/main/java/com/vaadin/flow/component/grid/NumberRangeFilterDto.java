@@ -0,0 +1,137 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Immutable filter keeping the numeric column values between an inclusive
+ * minimum and maximum, see {@link NumberRangeFilterComponent}. Either bound
+ * may be missing.
+ * <p>
+ * The bounds are unboxed once when the filter is created, so the predicate
+ * only compares primitive values. The {@link FilterCondition} exposed for
+ * indexes and backends uses {@link Double} bounds; a column index can only
+ * answer it if the column values are doubles too, otherwise the predicate is
+ * used.
+ */
+public class NumberRangeFilterDto implements FilterFieldDto<Number>, Serializable {
+
+	private final Double min;
+
+	private final Double max;
+
+	/**
+	 * Creates an empty filter.
+	 */
+	public NumberRangeFilterDto() {
+		this(null, null);
+	}
+
+	/**
+	 * Creates a filter.
+	 * 
+	 * @param min the inclusive minimum, null for no minimum
+	 * @param max the inclusive maximum, null for no maximum
+	 */
+	public NumberRangeFilterDto(Double min, Double max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * Returns the inclusive minimum.
+	 * 
+	 * @return the minimum, or null if there is none
+	 */
+	public Double getMin() {
+		return min;
+	}
+
+	/**
+	 * Returns the inclusive maximum.
+	 * 
+	 * @return the maximum, or null if there is none
+	 */
+	public Double getMax() {
+		return max;
+	}
+
+	@Override
+	public Predicate<Number> getFilterPredicate() {
+		if (isEmpty()) {
+			return value -> true;
+		}
+		double lower = min == null ? Double.NEGATIVE_INFINITY : min;
+		double upper = max == null ? Double.POSITIVE_INFINITY : max;
+		return value -> {
+			if (value == null) {
+				return false;
+			}
+			double number = value.doubleValue();
+			return number >= lower && number <= upper;
+		};
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return min == null && max == null;
+	}
+
+	@Override
+	public FilterCondition getFilterCondition() {
+		return isEmpty() ? null : FilterCondition.between(min, true, max, true);
+	}
+
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+	@Override
+	public boolean isRefinementOf(FilterFieldDto<Number> previous) {
+		if (!(previous instanceof NumberRangeFilterDto)) {
+			return false;
+		}
+		NumberRangeFilterDto other = (NumberRangeFilterDto) previous;
+		return (other.min == null || min != null && min >= other.min)
+				&& (other.max == null || max != null && max <= other.max);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(min, max);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof NumberRangeFilterDto)) {
+			return false;
+		}
+		NumberRangeFilterDto other = (NumberRangeFilterDto) obj;
+		return Objects.equals(min, other.min) && Objects.equals(max, other.max);
+	}
+}
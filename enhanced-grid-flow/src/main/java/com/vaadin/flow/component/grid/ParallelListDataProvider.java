@@ -0,0 +1,312 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializablePredicate;
+
+/**
+ * In-memory data provider for large collections that filters and sorts the
+ * items on all cores.
+ * <p>
+ * The filter is evaluated once per filter change, in chunks on the common
+ * fork-join pool, and the positions of the matching items are cached. Size
+ * queries and the following page fetches then work off that array, which is
+ * sorted in parallel the first time a sort order is requested. A filter whose
+ * matching items are already known, for example by an {@link EnhancedGrid},
+ * can be set with {@link #setFilter(SerializablePredicate, ItemPositionSet)}
+ * to skip the evaluation. The cache is discarded on {@link #refreshAll()}, which is called when the filter or the
+ * sort order of the data provider changes, and on
+ * {@link #refreshItem(Object)}. Call {@link #refreshAll()} after changing the
+ * backing collection.
+ * <p>
+ * The filter and the comparators are called from several threads, so they
+ * must be thread safe. The filter of an {@link EnhancedGrid} is.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class ParallelListDataProvider<T> extends ListDataProvider<T> {
+
+    /**
+     * Collections smaller than this are evaluated on the calling thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private transient FilterResult<T> filterResult;
+
+    private transient ItemPositionSet<T> presetMatches;
+
+    /**
+     * Constructs a new data provider backed by the given collection.
+     *
+     * @param items
+     *              the backing collection, not {@code null}
+     * @see ListDataProvider#ListDataProvider(Collection)
+     */
+    public ParallelListDataProvider(Collection<T> items) {
+        super(items);
+    }
+
+    @Override
+    public Stream<T> fetch(Query<T, SerializablePredicate<T>> query) {
+        FilterResult<T> result = getFilterResult(query);
+        int[] indexes = result.getSortedIndexes(query.getInMemorySorting(),
+                getSortComparator());
+        int from = Math.min(query.getOffset(), indexes.length);
+        int to = (int) Math.min((long) from + query.getLimit(),
+                indexes.length);
+        return Arrays.stream(indexes, from, to)
+                .mapToObj(result::getItem);
+    }
+
+    @Override
+    public int size(Query<T, SerializablePredicate<T>> query) {
+        return getFilterResult(query).indexes.length;
+    }
+
+    /**
+     * Sets the filter together with the items it matches, so that the
+     * positions of the items are used as they are instead of evaluating the
+     * filter on all items. The filter is only evaluated again after a refresh.
+     *
+     * @param filter
+     *                      the filter, or {@code null} to not filter
+     * @param matchingItems
+     *                      the items matching the filter, computed on the
+     *                      current backing collection
+     */
+    public void setFilter(SerializablePredicate<T> filter,
+            ItemPositionSet<T> matchingItems) {
+        presetMatches = matchingItems.getSnapshot().length == getItems().size()
+                ? matchingItems
+                : null;
+        try {
+            setFilter(filter);
+        } finally {
+            presetMatches = null;
+        }
+    }
+
+    @Override
+    public void refreshAll() {
+        // the refresh of a filter change set with its matching items
+        filterResult = presetMatches == null ? null
+                : new FilterResult<>(presetMatches.getSnapshot(), getFilter(),
+                        presetMatches.getPositions());
+        super.refreshAll();
+    }
+
+    @Override
+    public void refreshItem(T item) {
+        // the item may now match the filter differently
+        filterResult = null;
+        super.refreshItem(item);
+    }
+
+    private FilterResult<T> getFilterResult(
+            Query<T, SerializablePredicate<T>> query) {
+        SerializablePredicate<T> queryFilter = query.getFilter().orElse(null);
+        if (filterResult == null || filterResult.filter != getFilter()
+                || filterResult.queryFilter != queryFilter) {
+            filterResult = new FilterResult<>(getItems().toArray(), getFilter(),
+                    queryFilter);
+        }
+        return filterResult;
+    }
+
+    /**
+     * Positions of the items matching a filter in a snapshot of the backing
+     * collection, with the last requested sort order.
+     */
+    private static class FilterResult<T> {
+
+        private final Object[] items;
+        private final SerializablePredicate<T> filter;
+        private final SerializablePredicate<T> queryFilter;
+        private final int[] indexes;
+        private Comparator<T> sortedBy;
+        private Comparator<T> sortedAlsoBy;
+        private int[] sortedIndexes;
+
+        private FilterResult(Object[] items, SerializablePredicate<T> filter,
+                SerializablePredicate<T> queryFilter) {
+            this.items = items;
+            this.filter = filter;
+            this.queryFilter = queryFilter;
+            IntStream positions = IntStream.range(0, items.length);
+            if (items.length >= PARALLEL_THRESHOLD) {
+                positions = positions.parallel();
+            }
+            this.indexes = filter == null && queryFilter == null
+                    ? positions.toArray()
+                    : positions.filter(this::matches).toArray();
+        }
+
+        private FilterResult(Object[] items, SerializablePredicate<T> filter,
+                int[] indexes) {
+            this.items = items;
+            this.filter = filter;
+            this.queryFilter = null;
+            this.indexes = indexes;
+        }
+
+        private boolean matches(int index) {
+            T item = getItem(index);
+            return (filter == null || filter.test(item))
+                    && (queryFilter == null || queryFilter.test(item));
+        }
+
+        @SuppressWarnings("unchecked")
+        private T getItem(int index) {
+            return (T) items[index];
+        }
+
+        private int[] getSortedIndexes(Comparator<T> inMemorySorting,
+                Comparator<T> sortComparator) {
+            if (inMemorySorting == null && sortComparator == null) {
+                return indexes;
+            }
+            // the comparators are compared by identity, the combined
+            // comparator is a new instance on every query
+            if (sortedIndexes == null || inMemorySorting != sortedBy
+                    || sortComparator != sortedAlsoBy) {
+                Comparator<T> comparator = Stream
+                        .of(inMemorySorting, sortComparator)
+                        .filter(Objects::nonNull)
+                        .reduce(Comparator::thenComparing).get();
+                int[] positions = indexes.clone();
+                sortPositions(items, comparator, positions);
+                sortedIndexes = positions;
+                sortedBy = inMemorySorting;
+                sortedAlsoBy = sortComparator;
+            }
+            return sortedIndexes;
+        }
+    }
+
+    /**
+     * Sorts item positions by the items they refer to. The sort is stable,
+     * large ranges are sorted on the common fork-join pool.
+     *
+     * @param items
+     *                   the items the positions refer to
+     * @param comparator
+     *                   the comparator of the items
+     * @param positions
+     *                   the positions to sort in place
+     * @param <T>
+     *                   the type of the items
+     */
+    static <T> void sortPositions(Object[] items, Comparator<T> comparator,
+            int[] positions) {
+        new PositionSort<>(items, comparator, positions,
+                new int[positions.length], 0, positions.length).invoke();
+    }
+
+    /**
+     * Stable merge sort of item positions by the items they refer to, sorting
+     * the halves of large ranges in parallel. Unlike sorting boxed positions,
+     * no object is created per item.
+     */
+    private static class PositionSort<T> extends RecursiveAction {
+
+        private static final int INSERTION_SORT_THRESHOLD = 32;
+
+        private final Object[] items;
+        private final Comparator<T> comparator;
+        private final int[] positions;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+
+        private PositionSort(Object[] items, Comparator<T> comparator,
+                int[] positions, int[] buffer, int from, int to) {
+            this.items = items;
+            this.comparator = comparator;
+            this.positions = positions;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            PositionSort<T> left = new PositionSort<>(items, comparator,
+                    positions, buffer, from, middle);
+            PositionSort<T> right = new PositionSort<>(items, comparator,
+                    positions, buffer, middle, to);
+            if (to - from >= PARALLEL_THRESHOLD) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            if (compare(positions[middle - 1], positions[middle]) <= 0) {
+                // the halves are already in order
+                return;
+            }
+            System.arraycopy(positions, from, buffer, from, to - from);
+            int i = from;
+            int j = middle;
+            int k = from;
+            while (i < middle && j < to) {
+                positions[k++] = compare(buffer[j], buffer[i]) < 0
+                        ? buffer[j++]
+                        : buffer[i++];
+            }
+            System.arraycopy(buffer, i, positions, k, middle - i);
+            System.arraycopy(buffer, j, positions, k + middle - i, to - j);
+        }
+
+        private void insertionSort() {
+            for (int i = from + 1; i < to; i++) {
+                int position = positions[i];
+                int j = i - 1;
+                while (j >= from && compare(positions[j], position) > 0) {
+                    positions[j + 1] = positions[j];
+                    j--;
+                }
+                positions[j + 1] = position;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(int first, int second) {
+            return comparator.compare((T) items[first], (T) items[second]);
+        }
+    }
+}
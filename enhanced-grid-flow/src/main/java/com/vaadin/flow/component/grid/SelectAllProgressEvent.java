@@ -0,0 +1,137 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Optional;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+import com.vaadin.flow.component.ComponentEvent;
+
+/**
+ * Event fired while a background select all of an {@link EnhancedGrid} runs,
+ * once per fetched chunk and once when it finishes.
+ *
+ * @param <T>
+ *            the type of the grid items
+ * @see CustomAbstractGridMultiSelectionModel#setAsyncSelectAll(boolean)
+ */
+public class SelectAllProgressEvent<T> extends ComponentEvent<Grid<T>> {
+
+    /**
+     * State of a background select all.
+     */
+    public enum State {
+        /** Items are still being fetched. */
+        RUNNING,
+        /** All items have been fetched and selected. */
+        COMPLETED,
+        /** The select all was cancelled, the selection is unchanged. */
+        CANCELLED,
+        /** Fetching failed, the selection is unchanged. */
+        FAILED
+    }
+
+    private final State state;
+    private final int fetchedCount;
+    private final int totalCount;
+    private final Throwable failure;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source
+     *                     the grid running the select all
+     * @param state
+     *                     the state of the select all
+     * @param fetchedCount
+     *                     the number of items fetched so far
+     * @param totalCount
+     *                     the total number of items to fetch, or {@code -1}
+     *                     if unknown
+     */
+    public SelectAllProgressEvent(Grid<T> source, State state,
+            int fetchedCount, int totalCount) {
+        this(source, state, fetchedCount, totalCount, null);
+    }
+
+    /**
+     * Creates a new event.
+     *
+     * @param source
+     *                     the grid running the select all
+     * @param state
+     *                     the state of the select all
+     * @param fetchedCount
+     *                     the number of items fetched so far
+     * @param totalCount
+     *                     the total number of items to fetch, or {@code -1}
+     *                     if unknown
+     * @param failure
+     *                     the exception that made the select all fail, or
+     *                     {@code null}
+     */
+    public SelectAllProgressEvent(Grid<T> source, State state,
+            int fetchedCount, int totalCount, Throwable failure) {
+        super(source, false);
+        this.state = state;
+        this.fetchedCount = fetchedCount;
+        this.totalCount = totalCount;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the state of the select all.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of items fetched so far.
+     *
+     * @return the fetched item count
+     */
+    public int getFetchedCount() {
+        return fetchedCount;
+    }
+
+    /**
+     * Returns the total number of items to fetch.
+     *
+     * @return the total item count, or {@code -1} if unknown, for example for
+     *         hierarchical data
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the exception that made the select all fail.
+     *
+     * @return the failure, or an empty optional unless the state is
+     *         {@link State#FAILED}
+     */
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+}
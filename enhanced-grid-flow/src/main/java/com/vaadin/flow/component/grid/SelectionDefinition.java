@@ -0,0 +1,114 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+
+/**
+ * Symbolic description of a selection made with a select all on an
+ * {@link EnhancedGrid}: every item matching at least one of the recorded
+ * filters, minus the deselected ids, plus the explicitly selected ids.
+ * <p>
+ * The filters are the {@link Filter} objects the grid passed to its
+ * {@link com.vaadin.flow.data.provider.ConfigurableFilterDataProvider}, so a
+ * bulk action can be executed as a single backend query, for example
+ * {@code UPDATE ... WHERE (<filter> OR ...) AND id NOT IN (<deselected>) OR
+ * id IN (<selected>)}, without loading the selected rows. The selection
+ * predicate of the grid is evaluated in memory only, the backend query has to
+ * apply the equivalent condition itself.
+ *
+ * @param <T>
+ *            the type of the grid items
+ */
+public class SelectionDefinition<T> implements Serializable {
+
+    private final List<Filter<T>> filters;
+    private final Set<Object> deselectedIds;
+    private final Set<Object> selectedIds;
+
+    /**
+     * Creates a new definition.
+     *
+     * @param filters
+     *                      the filters whose matching items are selected, an
+     *                      empty list if all items are selected
+     * @param deselectedIds
+     *                      the ids of the items deselected afterwards
+     * @param selectedIds
+     *                      the ids of the items selected on top of the
+     *                      filters
+     */
+    SelectionDefinition(List<Filter<T>> filters, Set<Object> deselectedIds,
+            Set<Object> selectedIds) {
+        this.filters = List.copyOf(filters);
+        this.deselectedIds = Collections
+                .unmodifiableSet(new LinkedHashSet<>(deselectedIds));
+        this.selectedIds = Collections
+                .unmodifiableSet(new LinkedHashSet<>(selectedIds));
+    }
+
+    /**
+     * Returns the filters that were active when all items were selected. An
+     * item is part of the definition if it matches any of them.
+     *
+     * @return the filters, empty if all items were selected without a filter
+     */
+    public List<Filter<T>> getFilters() {
+        return filters;
+    }
+
+    /**
+     * Returns whether the definition covers all items, without any filter.
+     *
+     * @return {@code true} if no filter restricts the selection
+     */
+    public boolean isUnfiltered() {
+        return filters.isEmpty();
+    }
+
+    /**
+     * Returns the data provider ids of the items deselected after the select
+     * all.
+     *
+     * @return the deselected ids, never {@code null}
+     */
+    public Set<Object> getDeselectedIds() {
+        return deselectedIds;
+    }
+
+    /**
+     * Returns the data provider ids of the items selected explicitly, in
+     * addition to those matching the filters. They are read from the
+     * {@link SelectionStore} of the selection model, so a
+     * {@link LongIdSelectionStore} returns {@link Long} ids.
+     *
+     * @return the explicitly selected ids, never {@code null}
+     */
+    public Set<Object> getSelectedIds() {
+        return selectedIds;
+    }
+}
@@ -0,0 +1,179 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+import com.vaadin.flow.component.ComponentEvent;
+
+/**
+ * Event fired by the multi selection model of an {@link EnhancedGrid} whenever
+ * the selection changes. Unlike
+ * {@link com.vaadin.flow.data.selection.MultiSelectionEvent} it only carries
+ * the items that were added and removed, so firing it costs the same whatever
+ * the size of the selection.
+ * <p>
+ * The full old and new selections are computed on demand. They can only be
+ * requested while the selection is unchanged since the event was fired,
+ * typically from within the listener.
+ *
+ * @param <T>
+ *            the type of the grid items
+ */
+public class SelectionDeltaEvent<T> extends ComponentEvent<Grid<T>> {
+
+    private final CustomAbstractGridMultiSelectionModel<T> selectionModel;
+    private final Map<Object, T> added;
+    private final Map<Object, T> removed;
+    private final long selectionVersion;
+    private final boolean bulkChange;
+    private Set<T> oldSelection;
+    private Set<T> newSelection;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source
+     *                         the grid whose selection changed
+     * @param selectionModel
+     *                         the selection model that fired the event
+     * @param added
+     *                         the added items, indexed by id
+     * @param removed
+     *                         the removed items, indexed by id
+     * @param oldSelection
+     *                         the selection before the change for bulk
+     *                         changes, {@code null} to derive it from the
+     *                         delta
+     * @param selectionVersion
+     *                         the version of the selection after the change
+     * @param fromClient
+     *                         {@code true} if the change originated from the
+     *                         client
+     */
+    SelectionDeltaEvent(Grid<T> source,
+            CustomAbstractGridMultiSelectionModel<T> selectionModel,
+            Map<Object, T> added, Map<Object, T> removed,
+            Set<T> oldSelection, long selectionVersion, boolean fromClient) {
+        super(source, fromClient);
+        this.selectionModel = selectionModel;
+        this.added = Collections.unmodifiableMap(new LinkedHashMap<>(added));
+        this.removed = Collections
+                .unmodifiableMap(new LinkedHashMap<>(removed));
+        this.oldSelection = oldSelection;
+        this.selectionVersion = selectionVersion;
+        this.bulkChange = oldSelection != null;
+    }
+
+    /**
+     * Returns the ids of the items added to the selection.
+     *
+     * @return the added ids, never {@code null}
+     */
+    public Set<Object> getAddedIds() {
+        return added.keySet();
+    }
+
+    /**
+     * Returns the ids of the items removed from the selection.
+     *
+     * @return the removed ids, never {@code null}
+     */
+    public Set<Object> getRemovedIds() {
+        return removed.keySet();
+    }
+
+    /**
+     * Returns the items added to the selection.
+     *
+     * @return the added items, never {@code null}
+     */
+    public Set<T> getAddedItems() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(added.values()));
+    }
+
+    /**
+     * Returns the items removed from the selection.
+     *
+     * @return the removed items, never {@code null}
+     */
+    public Set<T> getRemovedItems() {
+        return Collections
+                .unmodifiableSet(new LinkedHashSet<>(removed.values()));
+    }
+
+    /**
+     * Returns whether the change selected or cleared all items at once, for
+     * example a symbolic select all. The added and removed items are then not
+     * enumerated, use {@link #getNewSelection()} to read the result.
+     *
+     * @return {@code true} for a bulk change
+     */
+    public boolean isBulkChange() {
+        return bulkChange;
+    }
+
+    /**
+     * Returns the full selection after the change. It is computed on the
+     * first call.
+     *
+     * @return the new selection
+     * @throws IllegalStateException
+     *                               if the selection has changed since the
+     *                               event was fired
+     */
+    public Set<T> getNewSelection() {
+        if (newSelection == null) {
+            checkSelectionUnchanged();
+            newSelection = selectionModel.getSelectedItems();
+        }
+        return newSelection;
+    }
+
+    /**
+     * Returns the full selection before the change. It is computed on the
+     * first call from the new selection and the delta.
+     *
+     * @return the old selection
+     * @throws IllegalStateException
+     *                               if the selection has changed since the
+     *                               event was fired
+     */
+    public Set<T> getOldSelection() {
+        if (oldSelection == null) {
+            oldSelection = Collections.unmodifiableSet(selectionModel
+                    .deriveOldSelection(getNewSelection(), added, removed));
+        }
+        return oldSelection;
+    }
+
+    private void checkSelectionUnchanged() {
+        if (selectionModel.getSelectionVersion() != selectionVersion) {
+            throw new IllegalStateException(
+                    "The selection has changed since this event was fired.");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.stream.Stream;
+
+/**
+ * Storage of the explicitly selected items of a
+ * {@link CustomAbstractGridMultiSelectionModel}, indexed by the data provider
+ * id of the items.
+ * <p>
+ * The default {@link ItemSelectionStore} keeps the items themselves. Other
+ * implementations can keep only the ids, like {@link LongIdSelectionStore},
+ * and resolve the items when the selection is read.
+ *
+ * @param <T> the type of the grid items
+ * @see CustomAbstractGridMultiSelectionModel#setSelectionStore(SelectionStore)
+ */
+public interface SelectionStore<T> extends Serializable {
+
+	/**
+	 * Returns whether the item with the given id is selected.
+	 * 
+	 * @param id the data provider id of the item
+	 * @return true if the item is selected
+	 */
+	boolean contains(Object id);
+
+	/**
+	 * Adds an item to the selection.
+	 * 
+	 * @param id   the data provider id of the item
+	 * @param item the item
+	 * @return true if the item was not selected before
+	 */
+	boolean add(Object id, T item);
+
+	/**
+	 * Removes an item from the selection.
+	 * 
+	 * @param id the data provider id of the item
+	 * @return true if the item was selected before
+	 */
+	boolean remove(Object id);
+
+	/**
+	 * Returns the number of selected items.
+	 * 
+	 * @return the number of selected items
+	 */
+	int size();
+
+	/**
+	 * Returns true if no item is selected.
+	 * 
+	 * @return true if the selection is empty
+	 */
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Removes all items from the selection.
+	 */
+	void clear();
+
+	/**
+	 * Returns the selected items. Implementations storing only ids resolve
+	 * the items when the stream is consumed.
+	 * 
+	 * @return the selected items
+	 */
+	Stream<T> stream();
+
+	/**
+	 * Returns the data provider ids of the selected items, without resolving
+	 * the items.
+	 * 
+	 * @return the selected ids
+	 */
+	Stream<Object> streamIds();
+
+	/**
+	 * Returns an independent copy of this store.
+	 * 
+	 * @return a copy of this store
+	 */
+	SelectionStore<T> copy();
+}
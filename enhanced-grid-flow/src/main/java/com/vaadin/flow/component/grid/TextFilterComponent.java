@@ -0,0 +1,163 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Locale;
+import java.util.regex.PatternSyntaxException;
+
+import com.vaadin.flow.component.AbstractCompositeField;
+import com.vaadin.flow.component.Key;
+import com.vaadin.flow.component.checkbox.Checkbox;
+import com.vaadin.flow.component.grid.TextFilterDto.Mode;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.component.textfield.TextField;
+
+/**
+ * Filter component for text columns, editing a {@link TextFilterDto}. Pressing
+ * enter in the text field applies the filter.
+ * <p>
+ * The labels are translated with the {@code text-filter.*} keys of the
+ * application's {@link com.vaadin.flow.i18n.I18NProvider}.
+ */
+public class TextFilterComponent extends AbstractCompositeField<Div, TextFilterComponent, TextFilterDto> {
+
+	private final TextField textField = new TextField();
+
+	private final Select<Mode> modeSelect = new Select<>();
+
+	private static final String CASE_SENSITIVE_KEY = "text-filter.case-sensitive";
+
+	private static final String INVERTED_KEY = "text-filter.inverted";
+
+	private static final String MODE_KEY_PREFIX = "text-filter.mode.";
+
+	private final Checkbox caseSensitiveCheckbox = new Checkbox();
+
+	private final Checkbox invertedCheckbox = new Checkbox();
+
+	private boolean updatingPresentation;
+
+	/**
+	 * Creates an empty text filter component.
+	 */
+	public TextFilterComponent() {
+		this(new TextFilterDto());
+	}
+
+	/**
+	 * Creates a text filter component with an initial filter.
+	 * 
+	 * @param initialValue the initial filter
+	 */
+	public TextFilterComponent(TextFilterDto initialValue) {
+		super(new TextFilterDto());
+		modeSelect.setItems(Mode.values());
+		modeSelect.setItemLabelGenerator(this::getModeLabel);
+		caseSensitiveCheckbox.setLabel(getTranslation(CASE_SENSITIVE_KEY));
+		invertedCheckbox.setLabel(getTranslation(INVERTED_KEY));
+		modeSelect.setValue(Mode.CONTAINS);
+		textField.addKeyDownListener(Key.ENTER, e -> FilterField.findComponent(this).ifPresent(FilterField::applyFilter));
+
+		textField.addValueChangeListener(e -> updateValue(e.isFromClient()));
+		modeSelect.addValueChangeListener(e -> updateValue(e.isFromClient()));
+		caseSensitiveCheckbox.addValueChangeListener(e -> updateValue(e.isFromClient()));
+		invertedCheckbox.addValueChangeListener(e -> updateValue(e.isFromClient()));
+
+		getContent().add(textField, modeSelect, caseSensitiveCheckbox, invertedCheckbox);
+		setValue(initialValue);
+	}
+
+	private String getModeLabel(Mode mode) {
+		return getTranslation(MODE_KEY_PREFIX + mode.name().toLowerCase(Locale.ROOT).replace('_', '-'));
+	}
+
+	private void updateValue(boolean fromClient) {
+		if (updatingPresentation) {
+			return;
+		}
+		try {
+			setModelValue(new TextFilterDto(textField.getValue(), modeSelect.getValue(),
+					caseSensitiveCheckbox.getValue(), invertedCheckbox.getValue()), fromClient);
+			textField.setInvalid(false);
+		} catch (PatternSyntaxException e) {
+			// keep the previous filter until the expression is valid
+			textField.setErrorMessage(e.getDescription());
+			textField.setInvalid(true);
+		}
+	}
+
+	@Override
+	protected void setPresentationValue(TextFilterDto value) {
+		TextFilterDto dto = value == null ? getEmptyValue() : value;
+		updatingPresentation = true;
+		try {
+			textField.setValue(dto.getText());
+			modeSelect.setValue(dto.getMode());
+			caseSensitiveCheckbox.setValue(dto.isCaseSensitive());
+			invertedCheckbox.setValue(dto.isInverted());
+			textField.setInvalid(false);
+		} finally {
+			updatingPresentation = false;
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return getValue() == null || getValue().isEmpty();
+	}
+
+	/**
+	 * Returns the field editing the filter text.
+	 * 
+	 * @return the text field
+	 */
+	public TextField getTextField() {
+		return textField;
+	}
+
+	/**
+	 * Returns the field selecting how the text is matched.
+	 * 
+	 * @return the mode select
+	 */
+	public Select<Mode> getModeSelect() {
+		return modeSelect;
+	}
+
+	/**
+	 * Returns the checkbox toggling the case sensitivity.
+	 * 
+	 * @return the case sensitive checkbox
+	 */
+	public Checkbox getCaseSensitiveCheckbox() {
+		return caseSensitiveCheckbox;
+	}
+
+	/**
+	 * Returns the checkbox inverting the filter result.
+	 * 
+	 * @return the invert checkbox
+	 */
+	public Checkbox getInvertedCheckbox() {
+		return invertedCheckbox;
+	}
+}
@@ -0,0 +1,235 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable filter on the text of a column value, see
+ * {@link TextFilterComponent}. The text of a value is its
+ * {@link Object#toString()}.
+ * <p>
+ * The operands are prepared once when the filter is created: the regular
+ * expression is compiled and the predicate compares the texts with
+ * {@link String#regionMatches(boolean, int, String, int, int)}, so no string
+ * is created while testing the rows, except the matchers of regular
+ * expressions.
+ */
+public class TextFilterDto implements FilterFieldDto<Object>, Serializable {
+
+	/**
+	 * How the filter text is matched against the column value.
+	 */
+	public enum Mode {
+		/**
+		 * The value contains the filter text.
+		 */
+		CONTAINS,
+		/**
+		 * The value starts with the filter text.
+		 */
+		STARTS_WITH,
+		/**
+		 * The value equals the filter text.
+		 */
+		EQUALS,
+		/**
+		 * The value contains a match of the filter text as a regular
+		 * expression.
+		 */
+		REGULAR_EXPRESSION
+	}
+
+	private final String text;
+
+	private final Mode mode;
+
+	private final boolean caseSensitive;
+
+	private final boolean inverted;
+
+	private final Pattern pattern;
+
+	/**
+	 * Creates an empty filter.
+	 */
+	public TextFilterDto() {
+		this("", Mode.CONTAINS, false, false);
+	}
+
+	/**
+	 * Creates a filter.
+	 * 
+	 * @param text          the filter text, null for no filter
+	 * @param mode          how the text is matched, not null
+	 * @param caseSensitive true to compare the case
+	 * @param inverted      true to keep the values that do not match
+	 * @throws java.util.regex.PatternSyntaxException if the mode is
+	 *                                                {@link Mode#REGULAR_EXPRESSION}
+	 *                                                and the text is not a
+	 *                                                valid regular expression
+	 */
+	public TextFilterDto(String text, Mode mode, boolean caseSensitive, boolean inverted) {
+		this.text = text == null ? "" : text;
+		this.mode = Objects.requireNonNull(mode, "mode cannot be null");
+		this.caseSensitive = caseSensitive;
+		this.inverted = inverted;
+		this.pattern = mode == Mode.REGULAR_EXPRESSION && !this.text.isEmpty()
+				? Pattern.compile(this.text, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+				: null;
+	}
+
+	/**
+	 * Returns the filter text.
+	 * 
+	 * @return the text, never null
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns how the filter text is matched.
+	 * 
+	 * @return the mode
+	 */
+	public Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Returns true if the case is compared.
+	 * 
+	 * @return true if the filter is case sensitive
+	 */
+	public boolean isCaseSensitive() {
+		return caseSensitive;
+	}
+
+	/**
+	 * Returns true if the filter keeps the values that do not match.
+	 * 
+	 * @return true if the filter is inverted
+	 */
+	public boolean isInverted() {
+		return inverted;
+	}
+
+	@Override
+	public Predicate<Object> getFilterPredicate() {
+		if (isEmpty()) {
+			return value -> true;
+		}
+		Predicate<Object> predicate;
+		FilterCondition condition = getMatchCondition();
+		if (condition != null) {
+			predicate = condition::test;
+		} else {
+			Pattern compiled = pattern;
+			predicate = value -> value != null && compiled.matcher(value.toString()).find();
+		}
+		return inverted ? predicate.negate() : predicate;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return text.isEmpty();
+	}
+
+	@Override
+	public FilterCondition getFilterCondition() {
+		return inverted || isEmpty() ? null : getMatchCondition();
+	}
+
+	@Override
+	public FilterExpression getFilterExpression(String columnKey) {
+		FilterCondition condition = isEmpty() ? null : getMatchCondition();
+		if (condition == null) {
+			return null;
+		}
+		FilterExpression expression = FilterExpression.column(columnKey, condition);
+		return inverted ? FilterExpression.not(expression) : expression;
+	}
+
+	/**
+	 * Returns the condition matched before inverting, or null if the mode
+	 * cannot be described by a condition.
+	 */
+	private FilterCondition getMatchCondition() {
+		switch (mode) {
+		case CONTAINS:
+			return FilterCondition.contains(text, caseSensitive);
+		case STARTS_WITH:
+			return FilterCondition.startsWith(text, caseSensitive);
+		case EQUALS:
+			return FilterCondition.textEquals(text, caseSensitive);
+		default:
+			return null;
+		}
+	}
+
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+	@Override
+	public boolean isRefinementOf(FilterFieldDto<Object> previous) {
+		if (!(previous instanceof TextFilterDto) || inverted) {
+			return false;
+		}
+		TextFilterDto other = (TextFilterDto) previous;
+		if (other.inverted || other.mode != mode || other.caseSensitive != caseSensitive) {
+			return false;
+		}
+		// a value containing or starting with the new text also contains or
+		// starts with the previous text if the new text extends it
+		switch (mode) {
+		case CONTAINS:
+			return FilterCondition.contains(other.text, caseSensitive).test(text);
+		case STARTS_WITH:
+			return FilterCondition.startsWith(other.text, caseSensitive).test(text);
+		default:
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(text, mode, caseSensitive, inverted);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof TextFilterDto)) {
+			return false;
+		}
+		TextFilterDto other = (TextFilterDto) obj;
+		return text.equals(other.text) && mode == other.mode && caseSensitive == other.caseSensitive
+				&& inverted == other.inverted;
+	}
+}
@@ -0,0 +1,169 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from the case folded trigrams of a column's text values to
+ * the positions of the values containing them. A text of three characters or
+ * more can only be contained in a value that contains all of its trigrams, so
+ * intersecting their position lists selects a small set of candidates, which
+ * then have to be verified against the actual condition.
+ * <p>
+ * The trigrams are folded the same way as
+ * {@link String#regionMatches(boolean, int, String, int, int)} ignores the
+ * case, so the candidates are valid for case sensitive and case insensitive
+ * conditions.
+ */
+class TrigramIndex implements Serializable {
+
+    /**
+     * Shortest text that can be looked up.
+     */
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, int[]> postings;
+
+    /**
+     * Builds the index of the given values, using their
+     * {@link Object#toString()}. {@code null} values are skipped.
+     *
+     * @param values
+     *               the column values, indexed by position
+     */
+    TrigramIndex(Object[] values) {
+        Map<Long, PositionList> lists = new HashMap<>();
+        for (int position = 0; position < values.length; position++) {
+            if (values[position] == null) {
+                continue;
+            }
+            String text = values[position].toString();
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                lists.computeIfAbsent(trigram(text, i),
+                        key -> new PositionList()).add(position);
+            }
+        }
+        postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+        lists.forEach((key, list) -> postings.put(key, list.toArray()));
+    }
+
+    /**
+     * Returns the positions of the values that may contain the given text,
+     * in ascending order.
+     *
+     * @param text
+     *             the text to look for
+     * @return the candidate positions, or {@code null} if the text is too
+     *         short to be looked up
+     */
+    int[] candidates(String text) {
+        if (text.length() < GRAM_LENGTH) {
+            return null;
+        }
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(trigram(text, i));
+        }
+        int[][] lists = new int[trigrams.size()][];
+        int index = 0;
+        for (Long trigram : trigrams) {
+            int[] positions = postings.get(trigram);
+            if (positions == null) {
+                return new int[0];
+            }
+            lists[index++] = positions;
+        }
+        // start with the rarest trigram to keep the intermediate results small
+        Arrays.sort(lists, Comparator.comparingInt(positions -> positions.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static long trigram(String text, int offset) {
+        return (long) fold(text.charAt(offset)) << 32
+                | (long) fold(text.charAt(offset + 1)) << 16
+                | fold(text.charAt(offset + 2));
+    }
+
+    /**
+     * Folds the case of a character the way
+     * {@link String#equalsIgnoreCase(String)} compares characters.
+     *
+     * @param c
+     *          the character to fold
+     * @return the folded character
+     */
+    static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Growable list of ascending positions, ignoring repeated positions.
+     */
+    private static class PositionList {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
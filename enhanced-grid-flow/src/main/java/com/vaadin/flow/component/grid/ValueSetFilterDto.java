@@ -0,0 +1,113 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable filter keeping the column values that are part of a set of
+ * values, see {@link FacetFilterComponent}. An empty set does not filter.
+ *
+ * @param <V> the type of the column values
+ */
+public class ValueSetFilterDto<V> implements FilterFieldDto<V>, Serializable {
+
+	private final Set<V> values;
+
+	/**
+	 * Creates an empty filter.
+	 */
+	public ValueSetFilterDto() {
+		this(Collections.emptySet());
+	}
+
+	/**
+	 * Creates a filter.
+	 * 
+	 * @param values the values to keep, not null
+	 */
+	public ValueSetFilterDto(Collection<V> values) {
+		this.values = Collections.unmodifiableSet(new LinkedHashSet<>(values));
+	}
+
+	/**
+	 * Returns the values to keep.
+	 * 
+	 * @return the values, empty if the filter is empty
+	 */
+	public Set<V> getValues() {
+		return values;
+	}
+
+	@Override
+	public Predicate<V> getFilterPredicate() {
+		if (isEmpty()) {
+			return value -> true;
+		}
+		Set<V> kept = new HashSet<>(values);
+		return kept::contains;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+
+	@Override
+	public FilterCondition getFilterCondition() {
+		// conditions never match null values
+		return isEmpty() || values.contains(null) ? null : FilterCondition.in(values);
+	}
+
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+	@Override
+	public boolean isRefinementOf(FilterFieldDto<V> previous) {
+		return previous instanceof ValueSetFilterDto
+				&& ((ValueSetFilterDto<?>) previous).values.containsAll(values);
+	}
+
+	@Override
+	public int hashCode() {
+		return values.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ValueSetFilterDto)) {
+			return false;
+		}
+		return values.equals(((ValueSetFilterDto<?>) obj).values);
+	}
+}
@@ -63,6 +63,13 @@ import { defineCustomElement } from '@vaadin/component-base/src/define.js';
 
         selectAllHidden: {
           type: Boolean,
+        },
+
+        /**
+         * When true, rows can be selected or deselected by dragging the pointer over their checkboxes.
+         */
+        dragSelect: {
+          type: Boolean,
         }
       };
     }
@@ -74,9 +81,12 @@ import { defineCustomElement } from '@vaadin/component-base/src/define.js';
       this.flexGrow = 0;
       this.selectAll = false;
       this.selectAllHidden = false;
+      this.dragSelect = false;
       
       this._boundOnSelectEvent = this._onSelectEvent.bind(this);
       this._boundOnDeselectEvent = this._onDeselectEvent.bind(this);
+      this._boundOnDragOver = this._onDragOver.bind(this);
+      this._boundOnDragEnd = this._onDragEnd.bind(this);
     }
   
     /** @protected */
@@ -137,23 +147,98 @@ import { defineCustomElement } from '@vaadin/component-base/src/define.js';
      *
      * @override
      */
-    _defaultRenderer(root, _column, { item, selected }) {
+    _defaultRenderer(root, _column, { item, selected, index }) {
       let checkbox = root.firstElementChild;
       if (!checkbox) {
         checkbox = document.createElement('vaadin-checkbox');
         checkbox.setAttribute('aria-label', 'Select Row');
         checkbox.addEventListener('click', this._onSelectClick.bind(this));
+        checkbox.addEventListener('pointerdown', this._onSelectPointerDown.bind(this));
         root.appendChild(checkbox);
       }
 
       checkbox.__item = item;
+      checkbox.__index = index;
       checkbox.checked = selected;
       checkbox.disabled = item.selectionDisabled;
     }
 
     _onSelectClick(e) {
-        if (!e.currentTarget.__item.selectionDisabled) {
-            e.currentTarget.checked ? this._grid.$connector.doDeselection([e.currentTarget.__item], true) : this._grid.$connector.doSelection([e.currentTarget.__item], true);
+        const checkbox = e.currentTarget;
+        if (this._dragged) {
+            // the drag has already toggled the rows, including this one
+            e.preventDefault();
+            return;
+        }
+        if (checkbox.__item.selectionDisabled) {
+            return;
+        }
+        if (e.shiftKey && this._lastToggledIndex !== undefined && this._lastToggledIndex !== checkbox.__index) {
+            // the server resolves and toggles the whole range at once
+            this.$server.toggleRange(this._lastToggledIndex, checkbox.__index, !checkbox.checked, false);
+        } else {
+            checkbox.checked ? this._grid.$connector.doDeselection([checkbox.__item], true) : this._grid.$connector.doSelection([checkbox.__item], true);
+        }
+        this._lastToggledIndex = checkbox.__index;
+    }
+
+    _onSelectPointerDown(e) {
+        const checkbox = e.currentTarget;
+        if (!this.dragSelect || e.pointerType !== 'mouse' || e.button !== 0 || checkbox.__item.selectionDisabled) {
+            return;
+        }
+        this._dragStartIndex = checkbox.__index;
+        this._dragEndIndex = checkbox.__index;
+        this._dragSelected = !checkbox.checked;
+        this._dragMinIndex = undefined;
+        this._dragMaxIndex = undefined;
+        this._grid.addEventListener('pointerover', this._boundOnDragOver);
+        document.addEventListener('pointerup', this._boundOnDragEnd, { once: true });
+    }
+
+    _onDragOver(e) {
+        const context = this._grid.getEventContext(e);
+        if (context.section !== 'body' || context.index === undefined || context.index === this._dragEndIndex) {
+            return;
+        }
+        this._dragEndIndex = context.index;
+        if (!this._dragFlushTimeout) {
+            this._dragFlushTimeout = setTimeout(() => this._flushDrag(), 100);
+        }
+    }
+
+    _onDragEnd() {
+        this._grid.removeEventListener('pointerover', this._boundOnDragOver);
+        this._flushDrag();
+        if (this._dragMinIndex !== undefined) {
+            // swallow the click that may follow on the checkbox the drag ends on
+            this._dragged = true;
+            setTimeout(() => { this._dragged = false; });
+            this._lastToggledIndex = this._dragEndIndex;
+        }
+    }
+
+    /**
+     * Sends the rows covered by the drag since the last flush as a single range.
+     * The covered span only grows, rows left again keep their new state.
+     */
+    _flushDrag() {
+        clearTimeout(this._dragFlushTimeout);
+        this._dragFlushTimeout = undefined;
+        const end = this._dragEndIndex;
+        if (this._dragMinIndex === undefined) {
+            if (end === this._dragStartIndex) {
+                return;
+            }
+            this._dragMinIndex = Math.min(this._dragStartIndex, end);
+            this._dragMaxIndex = Math.max(this._dragStartIndex, end);
+            this.$server.toggleRange(this._dragStartIndex, end, this._dragSelected, true);
+        } else if (end < this._dragMinIndex) {
+            this.$server.toggleRange(end, this._dragMinIndex - 1, this._dragSelected, true);
+            this._dragMinIndex = end;
+        } else if (end > this._dragMaxIndex) {
+            this.$server.toggleRange(this._dragMaxIndex + 1, end, this._dragSelected, true);
+            this._dragMaxIndex = end;
         }
     }
 
@@ -0,0 +1,141 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ColumnIndexTest {
+
+    record Person(String name, Integer age) {
+    }
+
+    private static final String[] NAMES = { "Anna", "anna", "Bernhard",
+            "Carla", "Annabelle", "Joanna", "Hannah", "Bob" };
+
+    private final List<Person> persons = IntStream.range(0, 2_000)
+            .mapToObj(i -> new Person(i % 97 == 0 ? null : NAMES[i % NAMES.length],
+                    i % 89 == 0 ? null : i % 100))
+            .collect(Collectors.toList());
+
+    @Test
+    void lookup_equalsAndIn() {
+        ColumnIndex<Person> ages = new ColumnIndex<>(persons, Person::age);
+
+        assertLookup(ages, Person::age, FilterCondition.equalTo(42));
+        assertLookup(ages, Person::age, FilterCondition.equalTo(1_000));
+        assertLookup(ages, Person::age, FilterCondition.in(List.of(1, 2, 99)));
+    }
+
+    @Test
+    void lookup_ranges() {
+        ColumnIndex<Person> ages = new ColumnIndex<>(persons, Person::age);
+
+        assertLookup(ages, Person::age, FilterCondition.between(10, true, 20, false));
+        assertLookup(ages, Person::age, FilterCondition.between(10, false, 20, true));
+        assertLookup(ages, Person::age, FilterCondition.atLeast(95));
+        assertLookup(ages, Person::age, FilterCondition.atMost(0));
+        assertLookup(ages, Person::age, FilterCondition.between(50, true, 40, true));
+    }
+
+    @Test
+    void lookup_text() {
+        ColumnIndex<Person> names = new ColumnIndex<>(persons, Person::name);
+
+        assertLookup(names, Person::name, FilterCondition.textEquals("anna", false));
+        assertLookup(names, Person::name, FilterCondition.textEquals("anna", true));
+        assertLookup(names, Person::name, FilterCondition.contains("ann", false));
+        assertLookup(names, Person::name, FilterCondition.contains("Ann", true));
+        assertLookup(names, Person::name, FilterCondition.startsWith("ANNA", false));
+        assertLookup(names, Person::name, FilterCondition.contains("xyz", false));
+    }
+
+    @Test
+    void lookup_textShorterThanATrigram_cannotBeAnswered() {
+        ColumnIndex<Person> names = new ColumnIndex<>(persons, Person::name);
+
+        assertNull(names.lookup(FilterCondition.contains("an", false)));
+    }
+
+    @Test
+    void lookup_rangeOverValuesThatAreNotComparable_cannotBeAnswered() {
+        ColumnIndex<Object> mixed = new ColumnIndex<>(
+                Arrays.asList(1, "two", 3), value -> value);
+
+        assertNull(mixed.lookup(FilterCondition.atLeast(2)));
+    }
+
+    @Test
+    void lookup_concurrentFirstUse_buildsConsistentIndexes() throws Exception {
+        List<FilterCondition> conditions = List.of(
+                FilterCondition.equalTo(7), FilterCondition.in(List.of(3, 4)),
+                FilterCondition.atLeast(50), FilterCondition.atMost(5));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 20; round++) {
+                ColumnIndex<Person> ages = new ColumnIndex<>(persons, Person::age);
+                CountDownLatch start = new CountDownLatch(1);
+                List<CompletableFuture<Void>> lookups = new ArrayList<>();
+                for (int thread = 0; thread < 8; thread++) {
+                    FilterCondition condition = conditions.get(thread % conditions.size());
+                    lookups.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        assertLookup(ages, Person::age, condition);
+                    }, executor));
+                }
+                start.countDown();
+                CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])).get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private <V> void assertLookup(ColumnIndex<Person> index,
+            Function<Person, V> valueProvider,
+            FilterCondition condition) {
+        Set<Person> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+        persons.stream().filter(person -> condition.test(valueProvider.apply(person)))
+                .forEach(expected::add);
+
+        assertEquals(expected, index.lookup(condition), condition.toString());
+    }
+}
@@ -0,0 +1,85 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class CompositeFilterPredicateTest {
+
+    @Test
+    void test_combinesTheTermsWithAnd() {
+        CompositeFilterPredicate<Integer> predicate = new CompositeFilterPredicate<>();
+        predicate.addTerm(item -> item % 2, remainder -> remainder == 0);
+        predicate.addTerm(item -> item, item -> item > 100);
+
+        for (int item = 0; item < 100_000; item++) {
+            assertEquals(item % 2 == 0 && item > 100, predicate.test(item));
+        }
+        assertEquals(2, predicate.getTermCount());
+    }
+
+    @Test
+    void test_withoutTerms_acceptsAll() {
+        CompositeFilterPredicate<Integer> predicate = new CompositeFilterPredicate<>();
+
+        assertTrue(predicate.test(1));
+    }
+
+    @Test
+    void test_rejectingTermMovesFirst() {
+        AtomicLong passingCalls = new AtomicLong();
+        CompositeFilterPredicate<Integer> predicate = new CompositeFilterPredicate<>();
+        predicate.addTerm(item -> item, item -> {
+            passingCalls.incrementAndGet();
+            return true;
+        });
+        predicate.addTerm(item -> item, item -> false);
+
+        IntStream.range(0, 200_000).forEach(predicate::test);
+        passingCalls.set(0);
+        IntStream.range(0, 10_000).forEach(predicate::test);
+
+        // only the measured items still reach the term that never rejects
+        assertTrue(passingCalls.get() < 2_500,
+                "the passing term was called " + passingCalls.get() + " times");
+    }
+
+    @Test
+    void test_concurrentUse_keepsResultsExact() {
+        CompositeFilterPredicate<Integer> predicate = new CompositeFilterPredicate<>();
+        predicate.addTerm(item -> item % 3, remainder -> remainder != 0);
+        predicate.addTerm(item -> item % 5, remainder -> remainder != 0);
+        predicate.addTerm(item -> item, item -> item >= 0);
+
+        long matches = IntStream.range(0, 3_000_000).parallel()
+                .filter(predicate::test).count();
+
+        long expected = IntStream.range(0, 3_000_000)
+                .filter(item -> item % 3 != 0 && item % 5 != 0).count();
+        assertEquals(expected, matches);
+    }
+}
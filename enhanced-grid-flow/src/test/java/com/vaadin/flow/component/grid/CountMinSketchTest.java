@@ -0,0 +1,84 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    @Test
+    void estimate_singleValue_isExact() {
+        CountMinSketch sketch = new CountMinSketch();
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(i, sketch.add(42));
+        }
+
+        assertEquals(5, sketch.estimate(42));
+    }
+
+    @Test
+    void estimate_neverUndercountsAndStaysWithinErrorBound() {
+        SplittableRandom random = new SplittableRandom(4);
+        int valueCount = 20_000;
+        long[] hashes = new long[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            hashes[i] = random.nextLong();
+        }
+        // skewed frequencies, a few values are added far more often
+        int[] counts = new int[valueCount];
+        int total = 0;
+        for (int i = 0; i < 200_000; i++) {
+            int value = (int) (valueCount * Math.pow(random.nextDouble(), 3));
+            counts[value]++;
+            total++;
+        }
+        CountMinSketch sketch = new CountMinSketch();
+        for (int value = 0; value < valueCount; value++) {
+            for (int i = 0; i < counts[value]; i++) {
+                sketch.add(hashes[value]);
+            }
+        }
+
+        double maxOvercount = 0.0013 * total;
+        int withinBound = 0;
+        for (int value = 0; value < valueCount; value++) {
+            int estimate = sketch.estimate(hashes[value]);
+            assertTrue(estimate >= counts[value],
+                    "undercount of value " + value);
+            if (estimate - counts[value] <= maxOvercount) {
+                withinBound++;
+            }
+        }
+        // documented as 98%, with some slack for this single run
+        assertTrue(withinBound >= 0.97 * valueCount,
+                withinBound + " of " + valueCount + " within bound");
+    }
+
+    @Test
+    void estimate_unknownValue_ofEmptySketch_isZero() {
+        assertEquals(0, new CountMinSketch().estimate(7));
+    }
+}
@@ -0,0 +1,107 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+import com.vaadin.flow.data.provider.ListDataProvider;
+
+class CustomAbstractGridMultiSelectionModelTest {
+
+    record Person(long id, String name) {
+    }
+
+    private List<Person> persons;
+    private CustomAbstractGridMultiSelectionModel<Person> model;
+
+    @BeforeEach
+    void setUp() {
+        persons = IntStream.range(0, 100)
+                .mapToObj(i -> new Person(i, "Person " + i))
+                .collect(Collectors.toList());
+        EnhancedGrid<Person> grid = new EnhancedGrid<>();
+        grid.setItems(new ListDataProvider<>(persons) {
+            @Override
+            public Object getId(Person item) {
+                return item.id();
+            }
+        });
+        model = (CustomAbstractGridMultiSelectionModel<Person>) grid
+                .setSelectionMode(Grid.SelectionMode.MULTI);
+    }
+
+    @Test
+    void isSelected_selectedAndUnselectedItems() {
+        model.updateSelection(
+                new LinkedHashSet<>(persons.subList(10, 20)),
+                Collections.emptySet());
+
+        assertTrue(model.isSelected(persons.get(10)));
+        assertTrue(model.isSelected(persons.get(19)));
+        assertFalse(model.isSelected(persons.get(9)));
+        assertFalse(model.isSelected(persons.get(20)));
+        assertFalse(model.isSelected(null));
+    }
+
+    @Test
+    void isSelected_matchesByDataProviderId() {
+        model.select(persons.get(5));
+
+        assertTrue(model.isSelected(new Person(5, "Renamed")));
+        assertFalse(model.isSelected(new Person(6, "Person 5")));
+    }
+
+    @Test
+    void deselect_itemIsNoLongerSelected() {
+        model.select(persons.get(5));
+        model.select(persons.get(6));
+        model.deselect(new Person(5, "Renamed"));
+
+        assertFalse(model.isSelected(persons.get(5)));
+        assertTrue(model.isSelected(persons.get(6)));
+        assertEquals(1, model.getSelectedItems().size());
+    }
+
+    @Test
+    void getSelectedItems_keepsSelectionOrder() {
+        model.select(persons.get(3));
+        model.select(persons.get(1));
+        model.select(persons.get(2));
+
+        assertEquals(
+                Arrays.asList(persons.get(3), persons.get(1), persons.get(2)),
+                model.getSelectedItems().stream()
+                        .collect(Collectors.toList()));
+    }
+}
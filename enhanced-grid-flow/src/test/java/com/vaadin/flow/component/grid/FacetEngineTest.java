@@ -0,0 +1,115 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.function.ValueProvider;
+
+class FacetEngineTest {
+
+    private record Person(String city, String country) {
+    }
+
+    private static final ValueProvider<Person, String> CITY = Person::city;
+    private static final ValueProvider<Person, String> COUNTRY =
+            Person::country;
+
+    private ColumnMatchSets<Person> matchSets;
+    private FacetEngine<Person> engine;
+
+    @BeforeEach
+    void setUp() {
+        matchSets = new ColumnMatchSets<>(List.of(
+                new Person("Turku", "FI"), new Person("Turku", "FI"),
+                new Person("Helsinki", "FI"), new Person("Berlin", "DE"),
+                new Person("Berlin", "DE"), new Person("Berlin", "DE")));
+        engine = new FacetEngine<>();
+    }
+
+    @Test
+    void getFacets_noFilter_countsAllItemsByDecreasingCount() {
+        assertEquals(List.of(new FacetCount("Berlin", 3),
+                new FacetCount("Turku", 2), new FacetCount("Helsinki", 1)),
+                engine.getFacets(matchSets, "city", CITY));
+    }
+
+    @Test
+    void getFacets_countsAmongOtherColumnsOnly() {
+        matchSets.update("country", COUNTRY,
+                new ValueSetFilterDto<>(Set.of("FI")));
+        matchSets.update("city", CITY,
+                new ValueSetFilterDto<>(Set.of("Helsinki")));
+
+        assertEquals(List.of(new FacetCount("Turku", 2),
+                new FacetCount("Helsinki", 1)),
+                engine.getFacets(matchSets, "city", CITY));
+        assertEquals(List.of(new FacetCount("FI", 1)),
+                engine.getFacets(matchSets, "country", COUNTRY));
+    }
+
+    @Test
+    void getFacets_ownFilterChanged_reusesCounts() {
+        List<FacetCount> counts = engine.getFacets(matchSets, "city", CITY);
+
+        matchSets.update("city", CITY,
+                new ValueSetFilterDto<>(Set.of("Berlin")));
+
+        assertSame(counts, engine.getFacets(matchSets, "city", CITY));
+    }
+
+    @Test
+    void getFacets_otherFilterChanged_countsAgain() {
+        List<FacetCount> counts = engine.getFacets(matchSets, "city", CITY);
+
+        matchSets.update("country", COUNTRY,
+                new ValueSetFilterDto<>(Set.of("DE")));
+        List<FacetCount> filtered = engine.getFacets(matchSets, "city", CITY);
+
+        assertNotSame(counts, filtered);
+        assertEquals(List.of(new FacetCount("Berlin", 3)), filtered);
+
+        // an equal filter keeps the matches, and so the counts
+        matchSets.update("country", COUNTRY,
+                new ValueSetFilterDto<>(Set.of("DE")));
+        assertSame(filtered, engine.getFacets(matchSets, "city", CITY));
+
+        matchSets.retainColumns(Set.of());
+        assertEquals(counts, engine.getFacets(matchSets, "city", CITY));
+    }
+
+    @Test
+    void getFacets_copiedMatchSets_reuseCounts() {
+        matchSets.update("country", COUNTRY,
+                new ValueSetFilterDto<>(Set.of("FI")));
+        List<FacetCount> counts = engine.getFacets(matchSets, "city", CITY);
+
+        assertSame(counts, engine.getFacets(matchSets.copy(), "city", CITY));
+    }
+}
@@ -0,0 +1,152 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.function.ValueProvider;
+
+class FilterExpressionTest {
+
+    record Person(String name, Integer age) {
+    }
+
+    private static final Map<String, ValueProvider<Person, ?>> COLUMNS = Map
+            .of("name", Person::name, "age", Person::age);
+
+    private static final SerializableFunction<String, ValueProvider<Person, ?>> BY_KEY = COLUMNS::get;
+
+    private final Person anna = new Person("Anna", 30);
+    private final Person unknownAge = new Person("Bob", null);
+
+    @Test
+    void test_column() {
+        FilterExpression adult = FilterExpression.column("age",
+                FilterCondition.atLeast(18));
+
+        assertTrue(adult.test(anna, BY_KEY));
+        assertFalse(adult.test(new Person("Carla", 12), BY_KEY));
+    }
+
+    @Test
+    void test_nullValue_neverMatchesACondition() {
+        FilterExpression age = FilterExpression.column("age",
+                FilterCondition.atMost(200));
+
+        assertFalse(age.test(unknownAge, BY_KEY));
+    }
+
+    @Test
+    void test_notOfNullValue_matches() {
+        // like the negated predicate of an inverted filter, unlike SQL
+        FilterExpression notAge = FilterExpression.not(FilterExpression
+                .column("age", FilterCondition.equalTo(30)));
+
+        assertTrue(notAge.test(unknownAge, BY_KEY));
+        assertFalse(notAge.test(anna, BY_KEY));
+    }
+
+    @Test
+    void test_emptyAndIsTrue_emptyOrIsFalse() {
+        assertTrue(FilterExpression.and().test(anna, BY_KEY));
+        assertFalse(FilterExpression.or().test(anna, BY_KEY));
+    }
+
+    @Test
+    void test_andOr() {
+        FilterExpression named = FilterExpression.column("name",
+                FilterCondition.startsWith("an", false));
+        FilterExpression young = FilterExpression.column("age",
+                FilterCondition.atMost(20));
+
+        assertFalse(FilterExpression.and(named, young).test(anna, BY_KEY));
+        assertTrue(FilterExpression.or(named, young).test(anna, BY_KEY));
+        assertFalse(FilterExpression.or(named, young).test(unknownAge, BY_KEY));
+    }
+
+    @Test
+    void equals_sameStructure() {
+        FilterExpression first = FilterExpression.and(
+                FilterExpression.column("name",
+                        FilterCondition.contains("an", false)),
+                FilterExpression.not(FilterExpression.column("age",
+                        FilterCondition.in(List.of(1, 2)))));
+        FilterExpression second = FilterExpression.and(
+                FilterExpression.column("name",
+                        FilterCondition.contains("an", false)),
+                FilterExpression.not(FilterExpression.column("age",
+                        FilterCondition.in(List.of(1, 2)))));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, FilterExpression.or(first.getOperands()));
+        assertNotEquals(first, FilterExpression.and(
+                FilterExpression.column("name",
+                        FilterCondition.contains("an", true)),
+                first.getOperands().get(1)));
+    }
+
+    @Test
+    void operands_areCopied() {
+        FilterExpression operand = FilterExpression.column("age",
+                FilterCondition.equalTo(1));
+        FilterExpression[] operands = { operand };
+        FilterExpression and = FilterExpression.and(Arrays.asList(operands));
+        operands[0] = FilterExpression.or();
+
+        assertEquals(List.of(operand), and.getOperands());
+        assertThrows(UnsupportedOperationException.class,
+                () -> and.getOperands().clear());
+    }
+
+    @Test
+    void column_requiresAKeyAndACondition() {
+        assertThrows(NullPointerException.class, () -> FilterExpression
+                .column(null, FilterCondition.equalTo(1)));
+        assertThrows(NullPointerException.class,
+                () -> FilterExpression.column("age", null));
+        assertThrows(NullPointerException.class,
+                () -> FilterExpression.not(null));
+    }
+
+    @Test
+    void invertedTextFilter_expressionAgreesWithPredicate() {
+        TextFilterDto filter = new TextFilterDto("nn",
+                TextFilterDto.Mode.CONTAINS, false, true);
+        FilterExpression expression = filter.getFilterExpression("name");
+
+        for (Person person : List.of(anna, unknownAge, new Person(null, 1))) {
+            assertEquals(filter.getFilterPredicate().test(person.name()),
+                    expression.test(person, BY_KEY), String.valueOf(person));
+        }
+    }
+}
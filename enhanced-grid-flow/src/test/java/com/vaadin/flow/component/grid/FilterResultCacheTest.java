@@ -0,0 +1,155 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class FilterResultCacheTest {
+
+    private static final int RESULT_SIZE = 100;
+
+    private static final long RESULT_BYTES = FilterResultCache.ENTRY_BYTES
+            + FilterResultCache.DEFAULT_HASH_ENTRY_BYTES * RESULT_SIZE;
+
+    private final List<Integer> items = new ArrayList<>(
+            IntStream.range(0, 1_000).boxed().toList());
+
+    @Test
+    void put_overBudget_evictsLeastRecentlyUsed() {
+        FilterResultCache<Integer> cache = new FilterResultCache<>(
+                3 * RESULT_BYTES);
+        Set<Integer> a = result(0);
+        Set<Integer> b = result(1);
+        Set<Integer> c = result(2);
+        cache.put(items, "a", a);
+        cache.put(items, "b", b);
+        cache.put(items, "c", c);
+        // a becomes the most recently used
+        assertSame(a, cache.get(items, "a"));
+
+        cache.put(items, "d", result(3));
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get(items, "b"));
+        assertSame(a, cache.get(items, "a"));
+        assertSame(c, cache.get(items, "c"));
+        assertEquals(3 * RESULT_BYTES, cache.getUsedBytes());
+    }
+
+    @Test
+    void put_sameKey_replacesResultAndItsSize() {
+        FilterResultCache<Integer> cache = new FilterResultCache<>(
+                10 * RESULT_BYTES);
+        cache.put(items, "a", result(0));
+        Set<Integer> replacement = result(1);
+
+        cache.put(items, "a", replacement);
+
+        assertEquals(1, cache.size());
+        assertSame(replacement, cache.get(items, "a"));
+        assertEquals(RESULT_BYTES, cache.getUsedBytes());
+    }
+
+    @Test
+    void put_resultLargerThanCache_isNotStored() {
+        FilterResultCache<Integer> cache = new FilterResultCache<>(
+                RESULT_BYTES - 1);
+
+        cache.put(items, "a", result(0));
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getUsedBytes());
+    }
+
+    @Test
+    void put_otherItems_clearsCache() {
+        FilterResultCache<Integer> cache = new FilterResultCache<>(
+                10 * RESULT_BYTES);
+        cache.put(items, "a", result(0));
+        List<Integer> otherItems = new ArrayList<>(items);
+
+        cache.put(otherItems, "b", result(1));
+
+        assertNull(cache.get(items, "b"));
+        assertNull(cache.get(otherItems, "a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void estimateBytes_followsRepresentation() {
+        FilterResultCache<Integer> cache = new FilterResultCache<>(1_000_000);
+        ItemPositionSet<Integer> all = ItemPositionSet.of(items);
+        ItemPositionSet<Integer> some = all.filter(i -> i % 10 == 0, false);
+
+        assertEquals(RESULT_BYTES, cache.estimateBytes(result(0)));
+        assertEquals(RESULT_BYTES,
+                cache.estimateBytes(new HashSet<>(result(0))));
+        assertEquals(FilterResultCache.ENTRY_BYTES
+                + FilterResultCache.DEFAULT_HASH_ENTRY_BYTES * items.size(),
+                cache.estimateBytes(all));
+        assertEquals(FilterResultCache.ENTRY_BYTES
+                + (FilterResultCache.DEFAULT_HASH_ENTRY_BYTES + 4) * 100
+                + FilterResultCache.ARRAY_HEADER_BYTES,
+                cache.estimateBytes(some));
+
+        cache.setHashEntryBytes(40);
+
+        assertEquals(FilterResultCache.ENTRY_BYTES + 40 * RESULT_SIZE,
+                cache.estimateBytes(result(0)));
+    }
+
+    @Test
+    void setHashEntryBytes_appliesToLaterResultsOnly() {
+        FilterResultCache<Integer> cache = new FilterResultCache<>(
+                10 * RESULT_BYTES);
+        cache.put(items, "a", result(0));
+
+        cache.setHashEntryBytes(0);
+        cache.put(items, "b", result(1));
+
+        assertEquals(RESULT_BYTES + FilterResultCache.ENTRY_BYTES,
+                cache.getUsedBytes());
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.setHashEntryBytes(-1));
+    }
+
+    private Set<Integer> result(int offset) {
+        Set<Integer> result = Collections
+                .newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < RESULT_SIZE; i++) {
+            result.add(items.get(offset * RESULT_SIZE + i));
+        }
+        return result;
+    }
+}
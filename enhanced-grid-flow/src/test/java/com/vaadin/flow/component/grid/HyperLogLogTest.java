@@ -0,0 +1,91 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    /**
+     * Four times the standard error of 1.6%, which a single estimate stays
+     * within with overwhelming probability.
+     */
+    private static final double MAX_RELATIVE_ERROR = 0.065;
+
+    @Test
+    void estimate_empty_isZero() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void estimate_smallCardinality_isNearlyExact() {
+        SplittableRandom random = new SplittableRandom(1);
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch.add(random.nextLong());
+        }
+
+        assertEquals(100, sketch.estimate(), 2);
+    }
+
+    @Test
+    void estimate_staysWithinErrorBound() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (int cardinality : new int[] { 1_000, 10_000, 100_000,
+                1_000_000 }) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < cardinality; i++) {
+                sketch.add(random.nextLong());
+            }
+
+            double error = Math.abs(sketch.estimate() - cardinality)
+                    / (double) cardinality;
+            assertTrue(error < MAX_RELATIVE_ERROR,
+                    cardinality + " distinct values, error " + error);
+        }
+    }
+
+    @Test
+    void estimate_repeatedValues_areCountedOnce() {
+        SplittableRandom random = new SplittableRandom(3);
+        long[] hashes = new long[5_000];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = random.nextLong();
+        }
+        HyperLogLog once = new HyperLogLog();
+        HyperLogLog repeated = new HyperLogLog();
+        for (long hash : hashes) {
+            once.add(hash);
+        }
+        for (int round = 0; round < 10; round++) {
+            for (long hash : hashes) {
+                repeated.add(hash);
+            }
+        }
+
+        assertEquals(once.estimate(), repeated.estimate());
+    }
+}
@@ -0,0 +1,99 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.componentfactory.enhancedgrid.EnhancedGrid;
+
+/**
+ * Measures the cost of {@link CustomAbstractGridMultiSelectionModel#isSelected}
+ * for a page of rows, as done by {@code generateData} for every row sent to
+ * the client, with growing selections. Excluded from the default build, run
+ * with {@code mvn test -Dgroups=benchmark -Dsurefire.excludedGroups=}.
+ */
+@Tag("benchmark")
+class IsSelectedBenchmarkTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int ROUNDS = 20_000;
+
+    @Test
+    void isSelected_costPerRowDoesNotGrowWithSelectionSize() {
+        double small = nanosPerRow(1_000);
+        double medium = nanosPerRow(10_000);
+        double large = nanosPerRow(100_000);
+        System.out.printf(
+                "isSelected per row: 1k selected %.1f ns, 10k %.1f ns, 100k %.1f ns%n",
+                small, medium, large);
+
+        // constant per row cost, with room for cache effects and noise
+        assertTrue(large < small * 5,
+                "cost per row grew from " + small + " to " + large + " ns");
+    }
+
+    private static double nanosPerRow(int selectionSize) {
+        List<Integer> items = IntStream.range(0, selectionSize + PAGE_SIZE)
+                .boxed().collect(Collectors.toList());
+        EnhancedGrid<Integer> grid = new EnhancedGrid<>();
+        grid.setItems(items);
+        CustomAbstractGridMultiSelectionModel<Integer> model = (CustomAbstractGridMultiSelectionModel<Integer>) grid
+                .setSelectionMode(Grid.SelectionMode.MULTI);
+        model.updateSelection(new HashSet<>(items.subList(0, selectionSize)),
+                Collections.emptySet());
+        // half of the page is selected
+        List<Integer> page = items.subList(selectionSize - PAGE_SIZE / 2,
+                selectionSize + PAGE_SIZE / 2);
+
+        countSelected(model, page, WARMUP_ROUNDS);
+        long start = System.nanoTime();
+        long selected = countSelected(model, page, ROUNDS);
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals((long) ROUNDS * PAGE_SIZE / 2, selected);
+        return (double) elapsed / ((long) ROUNDS * PAGE_SIZE);
+    }
+
+    private static long countSelected(
+            CustomAbstractGridMultiSelectionModel<Integer> model,
+            List<Integer> page, int rounds) {
+        long selected = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (Integer item : page) {
+                if (model.isSelected(item)) {
+                    selected++;
+                }
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,118 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ItemPositionSetTest {
+
+    private final List<String> items = IntStream.range(0, 20)
+            .mapToObj(i -> "item " + i).collect(Collectors.toList());
+
+    @Test
+    void of_containsAllItemsInOrder() {
+        ItemPositionSet<String> set = ItemPositionSet.of(items);
+
+        assertEquals(items.size(), set.size());
+        assertEquals(items, new ArrayList<>(set));
+        assertArrayEquals(IntStream.range(0, 20).toArray(),
+                set.getPositions());
+    }
+
+    @Test
+    void filter_keepsMatchingPositions() {
+        ItemPositionSet<String> set = ItemPositionSet.of(items)
+                .filter(item -> item.endsWith("1"), false);
+
+        assertEquals(List.of("item 1", "item 11"), new ArrayList<>(set));
+        assertArrayEquals(new int[] { 1, 11 }, set.getPositions());
+    }
+
+    @Test
+    void filter_refinesAFilteredSet() {
+        ItemPositionSet<String> set = ItemPositionSet.of(items)
+                .filter(item -> item.length() == 7, false)
+                .filter(item -> item.endsWith("5"), false);
+
+        assertEquals(List.of("item 15"), new ArrayList<>(set));
+    }
+
+    @Test
+    void filter_sharesTheSnapshot() {
+        ItemPositionSet<String> all = ItemPositionSet.of(items);
+
+        assertSame(all.getSnapshot(),
+                all.filter(item -> true, false).getSnapshot());
+    }
+
+    @Test
+    void filter_parallel_sameResultAsSequential() {
+        List<Integer> numbers = IntStream.range(0, 100_000).boxed()
+                .collect(Collectors.toList());
+        ItemPositionSet<Integer> set = ItemPositionSet.of(numbers);
+
+        assertArrayEquals(set.filter(i -> i % 7 == 3, false).getPositions(),
+                set.filter(i -> i % 7 == 3, true).getPositions());
+    }
+
+    @Test
+    void contains_comparesByIdentity() {
+        ItemPositionSet<String> set = ItemPositionSet.of(items)
+                .filter(item -> item.equals("item 3"), false);
+
+        assertTrue(set.contains(items.get(3)));
+        assertFalse(set.contains(new String("item 3")));
+        assertFalse(set.contains(items.get(4)));
+    }
+
+    @Test
+    void of_copiesTheCollection() {
+        List<String> copy = new ArrayList<>(items);
+        ItemPositionSet<String> set = ItemPositionSet.of(copy);
+        copy.clear();
+
+        assertEquals(20, set.size());
+    }
+
+    @Test
+    void iterator_pastTheEnd_throws() {
+        Iterator<String> iterator = ItemPositionSet.of(List.of("a"))
+                .iterator();
+        iterator.next();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
@@ -0,0 +1,159 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.data.provider.ListDataProvider;
+
+class LongIdSelectionStoreTest {
+
+	private final LongIdSelectionStore<Long> store = new LongIdSelectionStore<>(
+			ids -> Arrays.stream(ids).boxed());
+
+	@Test
+	void add_contains_remove() {
+		assertTrue(store.add(42L, null));
+		assertFalse(store.add(42, null));
+
+		assertTrue(store.contains(42L));
+		assertTrue(store.contains(42));
+		assertFalse(store.contains(43L));
+		assertEquals(1, store.size());
+
+		assertTrue(store.remove(42L));
+		assertFalse(store.remove(42L));
+		assertFalse(store.contains(42L));
+		assertTrue(store.isEmpty());
+	}
+
+	@Test
+	void zeroId_storedOutsideTheTable() {
+		assertTrue(store.add(0L, null));
+		assertTrue(store.contains(0L));
+		assertArrayEquals(new long[] { 0 }, store.getIds());
+
+		assertTrue(store.remove(0L));
+		assertFalse(store.contains(0L));
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	void remove_keepsProbeSequencesOfOtherIds() {
+		// random operations over a small id range collide and wrap around
+		// the table, the store must always agree with a reference set
+		Random random = new Random(1);
+		Set<Long> reference = new HashSet<>();
+		for (int i = 0; i < 200_000; i++) {
+			long id = random.nextInt(2_000) - 100;
+			if (random.nextBoolean()) {
+				assertEquals(reference.add(id), store.add(id, null));
+			} else {
+				assertEquals(reference.remove(id), store.remove(id));
+			}
+			if (i % 1_000 == 0) {
+				assertEquals(reference.size(), store.size());
+				for (long candidate = -100; candidate < 1_900; candidate++) {
+					assertEquals(reference.contains(candidate), store.contains(candidate));
+				}
+			}
+		}
+		assertEquals(reference, LongStream.of(store.getIds()).boxed().collect(Collectors.toSet()));
+	}
+
+	@Test
+	void remove_allIdsInInsertionOrder_emptiesTheStore() {
+		LongStream.range(1, 10_000).forEach(id -> store.add(id * 1024, null));
+		LongStream.range(1, 10_000).forEach(id -> assertTrue(store.remove(id * 1024)));
+
+		assertTrue(store.isEmpty());
+		assertEquals(0, store.getIds().length);
+	}
+
+	@Test
+	void copy_isIndependent() {
+		store.add(1L, null);
+		SelectionStore<Long> copy = store.copy();
+		store.add(2L, null);
+		copy.remove(1L);
+
+		assertTrue(store.contains(1L));
+		assertFalse(copy.contains(1L));
+		assertFalse(copy.contains(2L));
+	}
+
+	@Test
+	void stream_resolvesTheSelectedIds() {
+		store.add(3L, null);
+		store.add(1L, null);
+
+		assertEquals(Set.of(1L, 3L), store.stream().collect(Collectors.toSet()));
+	}
+
+	@Test
+	void streamIds_doesNotCallTheResolver() {
+		LongIdSelectionStore<Long> idsOnly = new LongIdSelectionStore<>(ids -> {
+			throw new AssertionError("resolver called");
+		});
+		idsOnly.add(7, null);
+		idsOnly.add(0L, null);
+
+		assertEquals(Set.of(0L, 7L), idsOnly.streamIds().collect(Collectors.toSet()));
+	}
+
+	@Test
+	void stream_emptyStore_doesNotCallTheResolver() {
+		LongIdSelectionStore<Long> empty = new LongIdSelectionStore<>(ids -> {
+			throw new AssertionError("resolver called");
+		});
+
+		assertEquals(0, empty.stream().count());
+	}
+
+	@Test
+	void scanning_listDataProvider_resolvesItemsById() {
+		List<Long> items = LongStream.range(0, 1_000).boxed().collect(Collectors.toList());
+		LongIdSelectionStore<Long> scanning = LongIdSelectionStore.scanning(new ListDataProvider<>(items));
+		Stream.of(0L, 500L, 999L).forEach(id -> scanning.add(id, id));
+
+		assertEquals(Set.of(0L, 500L, 999L), scanning.stream().collect(Collectors.toSet()));
+	}
+
+	@Test
+	void add_nonNumericId_throws() {
+		assertThrows(IllegalArgumentException.class, () -> store.add("id", null));
+	}
+}
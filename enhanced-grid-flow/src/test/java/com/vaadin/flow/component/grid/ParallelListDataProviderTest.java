@@ -0,0 +1,109 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializablePredicate;
+
+class ParallelListDataProviderTest {
+
+    record Row(int key, int sequence) {
+    }
+
+    private static final Comparator<Row> BY_KEY = Comparator
+            .comparingInt(Row::key);
+
+    @Test
+    void sortPositions_isStable() {
+        // small ranges use insertion sort, large ones are merged in parallel
+        for (int size : new int[] { 0, 1, 2, 31, 33, 1_000, 50_000 }) {
+            Object[] items = IntStream.range(0, size)
+                    .mapToObj(i -> new Row(i % 7, i)).toArray();
+            List<Integer> expected = IntStream.range(0, size).boxed()
+                    .collect(Collectors.toCollection(ArrayList::new));
+            Collections.shuffle(expected, new Random(size));
+            int[] positions = expected.stream().mapToInt(Integer::intValue)
+                    .toArray();
+
+            ParallelListDataProvider.sortPositions(items, BY_KEY, positions);
+            // List.sort is stable
+            expected.sort(Comparator.comparing(i -> (Row) items[i], BY_KEY));
+
+            assertArrayEquals(
+                    expected.stream().mapToInt(Integer::intValue).toArray(),
+                    positions, "size " + size);
+        }
+    }
+
+    @Test
+    void fetch_filtersAndSorts() {
+        List<Row> rows = IntStream.range(0, 30_000)
+                .mapToObj(i -> new Row((i * 7919) % 1_000, i))
+                .collect(Collectors.toList());
+        ParallelListDataProvider<Row> provider = new ParallelListDataProvider<>(
+                rows);
+        provider.setFilter(row -> row.sequence() % 3 == 0);
+
+        List<Row> expected = rows.stream()
+                .filter(row -> row.sequence() % 3 == 0).sorted(BY_KEY)
+                .collect(Collectors.toList());
+        assertEquals(expected.size(), provider.size(new Query<>()));
+        assertEquals(expected.subList(100, 150),
+                provider.fetch(new Query<>(100, 50, Collections.emptyList(),
+                        BY_KEY, null)).collect(Collectors.toList()));
+    }
+
+    @Test
+    void setFilter_withMatchingItems_doesNotEvaluateTheFilter() {
+        List<Row> rows = IntStream.range(0, 100)
+                .mapToObj(i -> new Row(i, i)).collect(Collectors.toList());
+        ParallelListDataProvider<Row> provider = new ParallelListDataProvider<>(
+                rows);
+        AtomicInteger calls = new AtomicInteger();
+        SerializablePredicate<Row> filter = row -> {
+            calls.incrementAndGet();
+            return row.key() < 10;
+        };
+        ItemPositionSet<Row> matches = ItemPositionSet.of(rows)
+                .filter(row -> row.key() < 10, false);
+
+        provider.setFilter(filter, matches);
+
+        assertEquals(10, provider.size(new Query<>()));
+        assertEquals(rows.subList(0, 10), provider.fetch(new Query<>())
+                .collect(Collectors.toList()));
+        assertEquals(0, calls.get());
+    }
+}
@@ -0,0 +1,115 @@
+package com.vaadin.flow.component.grid;
+
+/*-
+ * #%L
+ * Enhanced Grid
+ * %%
+ * Copyright (C) 2020 - 2025 Vaadin Ltd
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+    @Test
+    void candidates_includeEveryValueContainingTheText() {
+        Random random = new Random(3);
+        Object[] values = new Object[2_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 50 == 0 ? null : randomText(random, 1 + random.nextInt(12));
+        }
+        TrigramIndex index = new TrigramIndex(values);
+
+        for (int query = 0; query < 500; query++) {
+            String text = randomText(random, 3 + random.nextInt(3));
+            int[] candidates = index.candidates(text);
+
+            assertAscendingWithoutDuplicates(candidates);
+            for (int position = 0; position < values.length; position++) {
+                if (containsIgnoreCase(values[position], text)) {
+                    assertTrue(Arrays.binarySearch(candidates, position) >= 0,
+                            values[position] + " contains " + text);
+                }
+            }
+        }
+    }
+
+    @Test
+    void candidates_repeatedTrigrams_listPositionsOnce() {
+        TrigramIndex index = new TrigramIndex(new Object[] { "aaaaaa", "xaaax", "aab" });
+
+        assertArrayEquals(new int[] { 0, 1 }, index.candidates("aaaa"));
+        assertArrayEquals(new int[] { 0, 1 }, index.candidates("AAA"));
+        assertArrayEquals(new int[] { 2 }, index.candidates("AAB"));
+    }
+
+    @Test
+    void candidates_unknownTrigram_isEmpty() {
+        TrigramIndex index = new TrigramIndex(new Object[] { "anna", "bob" });
+
+        assertEquals(0, index.candidates("annx").length);
+    }
+
+    @Test
+    void candidates_textShorterThanATrigram_isNull() {
+        TrigramIndex index = new TrigramIndex(new Object[] { "anna" });
+
+        assertNull(index.candidates("an"));
+    }
+
+    @Test
+    void candidates_useTheTextOfTheValues() {
+        TrigramIndex index = new TrigramIndex(new Object[] { 12345, 99, 31234L });
+
+        assertArrayEquals(new int[] { 0, 2 }, index.candidates("234"));
+    }
+
+    private static String randomText(Random random, int length) {
+        String alphabet = "aAbBcC";
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private static boolean containsIgnoreCase(Object value, String text) {
+        if (value == null) {
+            return false;
+        }
+        String string = value.toString();
+        for (int i = 0; i + text.length() <= string.length(); i++) {
+            if (string.regionMatches(true, i, text, 0, text.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertAscendingWithoutDuplicates(int[] positions) {
+        for (int i = 1; i < positions.length; i++) {
+            assertTrue(positions[i - 1] < positions[i]);
+        }
+    }
+}